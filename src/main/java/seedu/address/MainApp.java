@@ -24,6 +24,8 @@ import seedu.address.model.ReadOnlyPositionBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BackgroundBookSaver;
+import seedu.address.storage.BookJournal;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -89,6 +91,7 @@ public class MainApp extends Application {
         ReadOnlyPositionBook initialPositionBookData;
         ReadOnlyApplicantBook initialApplicantBookData;
         try {
+            BackgroundBookSaver.completeInterruptedCheckpoint(storage);
 
             positionBookOptional = storage.readPositionBook();
             if (!positionBookOptional.isPresent()) {
@@ -102,6 +105,16 @@ public class MainApp extends Application {
             }
             initialApplicantBookData = applicantBookOptional.orElseGet(SampleDataUtil::getSampleApplicantBook);
 
+            BookJournal journal = new BookJournal(storage.getJournalFilePath());
+            if (positionBookOptional.isPresent() && journal.hasRecords()) {
+                logger.info("Replaying the changes in the journal since the data files were last written");
+                PositionBook positionBook = new PositionBook(initialPositionBookData);
+                ApplicantBook applicantBook = new ApplicantBook(initialApplicantBookData);
+                journal.replay(positionBook, applicantBook);
+                initialPositionBookData = positionBook;
+                initialApplicantBookData = applicantBook;
+            }
+
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty "
                     + "PositionBook/ApplicantBook");
@@ -202,6 +215,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping MrTechRecruiter ] =============================");
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,73 @@
+package seedu.address.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the limits on how much modification history is kept for undo and redo.
+ * Guarantees: immutable.
+ */
+public class HistorySettings implements Serializable {
+
+    private static final int DEFAULT_MAX_ENTRIES = 100;
+    private static final int DEFAULT_MAX_RECORDS = 100_000;
+
+    private final int maxEntries;
+    private final int maxRecords;
+
+    /**
+     * Constructs a {@code HistorySettings} with the default limits.
+     */
+    public HistorySettings() {
+        maxEntries = DEFAULT_MAX_ENTRIES;
+        maxRecords = DEFAULT_MAX_RECORDS;
+    }
+
+    /**
+     * Constructs a {@code HistorySettings} with the specified limits.
+     *
+     * @param maxEntries The maximum number of modifications that can be undone.
+     * @param maxRecords The maximum number of applicants and positions held by the history as a whole.
+     */
+    public HistorySettings(int maxEntries, int maxRecords) {
+        assert maxEntries > 0 && maxRecords > 0 : "History limits must be positive.";
+        this.maxEntries = maxEntries;
+        this.maxRecords = maxRecords;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int getMaxRecords() {
+        return maxRecords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistorySettings)) { //this handles null as well.
+            return false;
+        }
+
+        HistorySettings o = (HistorySettings) other;
+
+        return maxEntries == o.maxEntries
+                && maxRecords == o.maxRecords;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxEntries, maxRecords);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max entries : " + maxEntries + "\n");
+        sb.append("Max records : " + maxRecords);
+        return sb.toString();
+    }
+}
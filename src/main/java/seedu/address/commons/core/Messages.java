@@ -7,6 +7,7 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_APPLICANTS_LISTED_OVERVIEW = "%1$d applicant listed!";
+    public static final String MESSAGE_POSITIONS_LISTED_OVERVIEW = "%1$d position listed!";
     public static final String MESSAGE_INVALID_APPLICANT_DISPLAYED_INDEX = "The applicant index provided is invalid";
     public static final String MESSAGE_INVALID_POSITION_DISPLAYED_INDEX = "The position index provided is invalid";
 }
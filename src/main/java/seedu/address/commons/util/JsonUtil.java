@@ -1,20 +1,34 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +36,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa.
@@ -77,6 +92,62 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array named {@code arrayName} in the Json object in the specified file, passing each
+     * element to {@code elementHandler} as soon as it is read, so that the elements are never held all at once.
+     * Other values in the Json object are skipped. If the array is missing, no element is read.
+     *
+     * @param filePath filePath of given file. Cannot be null.
+     * @param elementClass Each element of the array has to correspond to the structure in the class given here.
+     * @return false if the file is not found.
+     * @throws DataConversionException If the file format is not as expected.
+     * @throws IllegalValueException If {@code elementHandler} throws it for an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayName, Class<T> elementClass,
+            JsonElementHandler<? super T> elementHandler) throws DataConversionException, IllegalValueException {
+        requireAllNonNull(filePath, arrayName, elementClass, elementHandler);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(
+                new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a Json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayName) || valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Handles an element read from a Json array.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+        /**
+         * Handles {@code element}.
+         *
+         * @throws IllegalValueException If {@code element} violates any data constraints.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -92,6 +163,37 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves a Json object holding {@code elements} as an array named {@code arrayName} to the specified file.
+     * Each element is converted by {@code toJsonAdapted} and written as soon as it is converted, so that neither the
+     * converted elements nor the Json text are ever held in memory all at once.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     *
+     * @param isPrettyPrinted Whether the Json object is written indented over several lines, rather than on one line.
+     * @throws IOException If there was an error during writing to the file.
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayName, Iterable<? extends T> elements,
+            Function<? super T, ?> toJsonAdapted, boolean isPrettyPrinted) throws IOException {
+        requireAllNonNull(filePath, arrayName, elements, toJsonAdapted);
+
+        // flushing after each element would write each element to the file on its own
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(FileChannel.open(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)));
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayName);
+            for (T element : elements) {
+                elementWriter.writeValue(generator, toJsonAdapted.apply(element));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class.
@@ -114,6 +216,18 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line without
+     * spacing.
+     *
+     * @param instance The T object to be converted into the JSON string.
+     * @param <T> The generic type to create an instance of.
+     * @return JSON data representation of the given class instance, in string.
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -39,6 +39,66 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, or {@code maxDistance + 1} if the
+     * distance is greater than {@code maxDistance}.
+     * Only the cells within {@code maxDistance} of the diagonal are computed, and the computation stops as soon as
+     * the distance is known to exceed {@code maxDistance}.
+     * <br>examples:<pre>
+     *     getBoundedEditDistance("hans", "hanz", 2) == 1
+     *     getBoundedEditDistance("hans", "bob", 2) == 3 //distance exceeds the bound
+     *     </pre>
+     *
+     * @param first The first string. Cannot be null.
+     * @param second The second string. Cannot be null.
+     * @param maxDistance The largest distance of interest. Cannot be negative.
+     */
+    public static int getBoundedEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        int exceeded = maxDistance + 1;
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return exceeded;
+        }
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j <= maxDistance ? j : exceeded;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(second.length(), i + maxDistance);
+            currentRow[0] = i <= maxDistance ? i : exceeded;
+            if (from > 1) {
+                currentRow[from - 1] = exceeded;
+            }
+
+            int rowMinimum = currentRow[0];
+            for (int j = from; j <= to; j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                currentRow[j] = Math.min(distance, exceeded);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (to < second.length()) {
+                currentRow[to + 1] = exceeded;
+            }
+            if (rowMinimum > maxDistance) {
+                return exceeded;
+            }
+
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
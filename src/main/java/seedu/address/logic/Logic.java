@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +26,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets {@code failureHandler} to be given an error message, on a background thread, whenever the data fails to
+     * be saved.
+     */
+    void setSaveFailureHandler(Consumer<String> failureHandler);
+
+    /**
+     * Waits until the data of every command executed so far has been saved.
+     *
+     * @throws IOException If the data could not be saved.
+     */
+    void flush() throws IOException;
+
     /** Returns an unmodifiable view of the filtered list of positions */
     ObservableList<Position> getFilteredPositionList();
 
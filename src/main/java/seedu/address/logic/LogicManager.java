@@ -1,7 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,29 +17,45 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.MrTechRecruiterParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ApplicantBookSnapshot;
 import seedu.address.model.Model;
+import seedu.address.model.PositionBook;
 import seedu.address.model.applicant.Applicant;
 import seedu.address.model.position.Position;
+import seedu.address.storage.BackgroundBookSaver;
+import seedu.address.storage.JournalRecorder;
+import seedu.address.storage.JsonAdaptedJournalRecord;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * After each command, the changes it made to the books are appended to the journal in the background, so that
+ * commands neither wait for the books to be written nor write more than they changed. The books are checkpointed
+ * instead after the first command, as they may not have been saved yet, once enough records have been appended
+ * since the last checkpoint, and whenever the changes cannot be journaled.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    /** The number of records appended to the journal after which the books are checkpointed. */
+    public static final int CHECKPOINT_INTERVAL = 1000;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final MrTechRecruiterParser mrTechRecruiterParser;
+    private final BackgroundBookSaver bookSaver;
+    private final JournalRecorder journalRecorder;
+    private boolean hasCheckpoint;
+    private int recordsSinceCheckpoint;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
         this.mrTechRecruiterParser = new MrTechRecruiterParser();
+        this.bookSaver = new BackgroundBookSaver(storage);
+        this.journalRecorder = new JournalRecorder(model.getPositionBook(), model.getApplicantBook());
     }
 
     @Override
@@ -43,18 +64,50 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = mrTechRecruiterParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.savePositionBook(model.getPositionBook());
-            storage.saveApplicantBook(model.getApplicantBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            // a command failing partway must not leave its changes to be undone along with the next command
+            model.revertPendingChanges();
+            throw e;
+        }
+
+        Optional<List<JsonAdaptedJournalRecord>> records = journalRecorder.takeRecords();
+        int recordCount = records.map(List::size).orElse(0);
+        if (!hasCheckpoint || records.isEmpty() || bookSaver.isCheckpointRequired()
+                || recordsSinceCheckpoint + recordCount >= CHECKPOINT_INTERVAL) {
+            checkpoint();
+        } else {
+            // read-only commands record nothing, so they save nothing
+            bookSaver.appendToJournal(records.get());
+            recordsSinceCheckpoint += recordCount;
         }
 
         return commandResult;
     }
 
+    private void checkpoint() {
+        bookSaver.checkpoint(new PositionBook(model.getPositionBook()),
+                new ApplicantBookSnapshot(model.getApplicantBook()));
+        hasCheckpoint = true;
+        recordsSinceCheckpoint = 0;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> failureHandler) {
+        requireNonNull(failureHandler);
+        bookSaver.setFailureHandler(ioe -> failureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (bookSaver.isCheckpointRequired()) {
+            // the books of a failed checkpoint are not written again, as records may have been appended since
+            checkpoint();
+        }
+        bookSaver.flush();
+    }
+
     @Override
     public ObservableList<Applicant> getFilteredApplicantList() {
         return model.getFilteredApplicantList();
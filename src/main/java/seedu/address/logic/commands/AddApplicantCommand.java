@@ -62,7 +62,6 @@ public class AddApplicantCommand extends Command {
             throw new CommandException(MESSAGE_NO_SUCH_POSITION);
         }
 
-        memento.record(model.getCopiedModel());
         Applicant applicant = model.addApplicantWithParticulars(applicantParticulars);
         String successMessage = String.format(MESSAGE_SUCCESS, applicant);
         memento.recordMessage(successMessage);
@@ -44,8 +44,6 @@ public class AddPositionCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_POSITION);
         }
 
-        memento.record(model.getCopiedModel());
-
         model.addPosition(toAdd);
 
         String successMessage = String.format(MESSAGE_SUCCESS, toAdd);
@@ -42,8 +42,6 @@ public class DeleteApplicantCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_APPLICANT_DISPLAYED_INDEX);
         }
 
-        memento.record(model.getCopiedModel());
-
         Applicant applicantToDelete = lastShownList.get(targetIndex.getZeroBased());
         model.deleteApplicant(applicantToDelete);
 
@@ -42,10 +42,13 @@ public class DeletePositionCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_POSITION_DISPLAYED_INDEX);
         }
 
-        memento.record(model.getCopiedModel());
-
         Position positionToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deletePosition(positionToDelete);
+        model.beginBatch();
+        try {
+            model.deletePosition(positionToDelete);
+        } finally {
+            model.commitBatch();
+        }
 
         String successMessage = String.format(MESSAGE_DELETE_POSITION_SUCCESS, positionToDelete);
         memento.recordMessage(successMessage);
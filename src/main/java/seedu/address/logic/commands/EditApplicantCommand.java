@@ -87,8 +87,6 @@ public class EditApplicantCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_APPLICANT);
         }
 
-        memento.record(model.getCopiedModel());
-
         model.setApplicant(applicantToEdit, editedApplicant);
         model.updateFilteredApplicantList(PREDICATE_SHOW_ALL_APPLICANTS);
 
@@ -70,11 +70,14 @@ public class EditPositionCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_POSITION);
         }
 
-        memento.record(model.getCopiedModel());
-
-        model.setPosition(positionToEdit, editedPosition);
-        // when a position is edited, the position information in applicants should also be modified
-        model.updateApplicantsWithPosition(positionToEdit, editedPosition);
+        model.beginBatch();
+        try {
+            model.setPosition(positionToEdit, editedPosition);
+            // when a position is edited, the position information in applicants should also be modified
+            model.updateApplicantsWithPosition(positionToEdit, editedPosition);
+        } finally {
+            model.commitBatch();
+        }
         model.updateFilteredPositionList(PREDICATE_SHOW_ALL_POSITIONS);
 
         String successMessage = String.format(MESSAGE_EDIT_POSITION_SUCCESS, editedPosition);
@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
@@ -8,35 +11,57 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.descriptors.FilterApplicantDescriptor;
 import seedu.address.logic.descriptors.FilterApplicantDescriptorVerifier;
 import seedu.address.model.Model;
-import seedu.address.model.applicant.ApplicantMatchesFiltersPredicate;
+import seedu.address.model.applicant.filter.FilterExpression;
 
 /**
  * Filters the current list of applicants by the specified criteria.
+ * The criteria are either a {@code FilterApplicantDescriptor}, whose filters are all applied, or a
+ * {@code FilterExpression} combining filters with {@code AND}, {@code OR} and {@code NOT}.
  */
 public class FilterApplicantCommand extends Command {
 
     public static final String COMMAND_WORD = "filter-applicant";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Filters the current list of applicants by the specified criteria. " + "\n"
+            + ": Filters the current list of applicants by the specified criteria. "
+            + "Criteria can be combined with AND, OR, NOT and parentheses; "
+            + "criteria without an operator between them are all applied." + "\n"
             + "Parameters: "
             + "[" + PREFIX_POSITION + "POSITION] "
-            + "[" + PREFIX_STATUS + "STATUS] " + "\n"
+            + "[" + PREFIX_STATUS + "STATUS] "
+            + "[" + PREFIX_NAME + "NAME_KEYWORD] "
+            + "[" + PREFIX_EMAIL + "EMAIL_DOMAIN] "
+            + "[" + PREFIX_ADDRESS + "ADDRESS_KEYWORD]..." + "\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_POSITION + "software engineer "
-            + PREFIX_STATUS + "pending";
+            + PREFIX_STATUS + "pending" + "\n"
+            + "Example: " + COMMAND_WORD + " ("
+            + PREFIX_POSITION + "software engineer OR "
+            + PREFIX_POSITION + "data scientist) AND NOT "
+            + PREFIX_STATUS + "rejected";
 
     public static final String MESSAGE_SUCCESS = "Applicants filtered by: %1$s";
     public static final String MESSAGE_INVALID_FILTER = "The following filters are invalid: %1$s";
 
-    private final FilterApplicantDescriptor filterApplicantDescriptor;
+    private final FilterExpression expression;
+    private final String filterDescription;
 
     /**
      * Creates a FilterApplicantCommand according to the specified {@code filterApplicantDescriptor}.
      */
     public FilterApplicantCommand(FilterApplicantDescriptor filterApplicantDescriptor) {
         requireNonNull(filterApplicantDescriptor);
-        this.filterApplicantDescriptor = new FilterApplicantDescriptor(filterApplicantDescriptor);
+        this.expression = filterApplicantDescriptor.toExpression();
+        this.filterDescription = filterApplicantDescriptor.toString();
+    }
+
+    /**
+     * Creates a FilterApplicantCommand according to the specified {@code expression}.
+     */
+    public FilterApplicantCommand(FilterExpression expression) {
+        requireNonNull(expression);
+        this.expression = expression;
+        this.filterDescription = expression.toString();
     }
 
     @Override
@@ -44,14 +69,16 @@ public class FilterApplicantCommand extends Command {
         requireNonNull(model);
 
         FilterApplicantDescriptor invalidFilterApplicantDescriptor =
-                new FilterApplicantDescriptorVerifier(model, filterApplicantDescriptor);
+                new FilterApplicantDescriptorVerifier(model, expression);
         if (invalidFilterApplicantDescriptor.hasAnyFilter()) {
             throw new CommandException(String.format(MESSAGE_INVALID_FILTER, invalidFilterApplicantDescriptor));
         }
 
-        model.updateFilteredApplicantList(new ApplicantMatchesFiltersPredicate(filterApplicantDescriptor));
+        // looks the expression up in the applicant indexes, so that only the applicants found are listed without a
+        // scan, and applicants edited while listed are tested against the expression
+        model.updateFilteredApplicantList(expression, model.getApplicantsMatching(expression));
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, filterApplicantDescriptor));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filterDescription));
 
     }
 
@@ -59,7 +86,7 @@ public class FilterApplicantCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FilterApplicantCommand // instanceof handles nulls
-                && filterApplicantDescriptor.equals(((FilterApplicantCommand) other).filterApplicantDescriptor));
+                && expression.equals(((FilterApplicantCommand) other).expression));
     }
 
 }
@@ -2,36 +2,70 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.applicant.Applicant;
 import seedu.address.model.applicant.NameContainsKeywordsPredicate;
+import seedu.address.model.applicant.NameSimilarToKeywordsPredicate;
 
 /**
  * Finds and lists all applicants in MTR whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive. In fuzzy mode, words within a few typos of a keyword also match, and the
+ * applicants are listed from the closest match.
  */
 public class FindApplicantCommand extends Command {
 
     public static final String COMMAND_WORD = "find-applicant";
 
+    public static final String FUZZY_FLAG = "-f";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all applicants whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers." + "\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]..." + "\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + FUZZY_FLAG + ", names with words within a few typos of the keywords are also found, "
+            + "closest matches first." + "\n"
+            + "Parameters: [" + FUZZY_FLAG + "] KEYWORD [MORE_KEYWORDS]..." + "\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie" + "\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_FLAG + " alise";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Applicant> predicate;
+    private final List<String> keywords;
+    private final boolean isFuzzy;
 
     /**
      * Creates a FindApplicantCommand according to the specified {@code predicate}.
      */
     public FindApplicantCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.keywords = predicate.getKeywords();
+        this.isFuzzy = false;
+    }
+
+    /**
+     * Creates a FindApplicantCommand in fuzzy mode according to the specified {@code predicate}.
+     */
+    public FindApplicantCommand(NameSimilarToKeywordsPredicate predicate) {
+        this.predicate = predicate;
+        this.keywords = predicate.getKeywords();
+        this.isFuzzy = true;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredApplicantList(predicate);
+        // looks the keywords up in the name index, so that only the applicants found are listed without a scan
+        if (isFuzzy) {
+            NameSimilarToKeywordsPredicate similarityPredicate = (NameSimilarToKeywordsPredicate) predicate;
+            // only the applicants listed have their typos counted to order them, including those edited later
+            model.updateFilteredApplicantList(similarityPredicate,
+                    model.getApplicantsWithNameSimilarTo(keywords).keySet(),
+                    Comparator.comparingInt(similarityPredicate::getEditDistance));
+        } else {
+            model.updateFilteredApplicantList(predicate, model.getApplicantsWithNameContainingAnyOf(keywords));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_APPLICANTS_LISTED_OVERVIEW, model.getFilteredApplicantList().size()));
     }
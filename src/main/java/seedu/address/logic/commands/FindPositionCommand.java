@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.position.Position;
+
+/**
+ * Finds and lists the positions in MTR whose title or description best match the argument keywords, from the most
+ * relevant.
+ * Keyword matching is case-insensitive. Positions mentioning rarer keywords, or mentioning them more often, rank
+ * higher, and keywords in the title count more than keywords in the description.
+ */
+public class FindPositionCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-position";
+
+    public static final int MAX_RESULTS = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the positions whose titles or descriptions "
+            + "best match the specified keywords (case-insensitive) and displays them as a list with index numbers, "
+            + "most relevant first. At most " + MAX_RESULTS + " positions are listed." + "\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]..." + "\n"
+            + "Example: " + COMMAND_WORD + " machine learning";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a FindPositionCommand to find the positions matching {@code keywords}.
+     */
+    public FindPositionCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Position> matchingPositions = model.searchPositions(keywords, MAX_RESULTS);
+        Map<Position, Integer> ranks = new HashMap<>();
+        for (int rank = 0; rank < matchingPositions.size(); rank++) {
+            ranks.put(matchingPositions.get(rank), rank);
+        }
+
+        model.updateFilteredPositionList(ranks::containsKey, (first, second) -> ranks.get(first) - ranks.get(second));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_POSITIONS_LISTED_OVERVIEW, model.getFilteredPositionList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindPositionCommand // instanceof handles nulls
+                && keywords.equals(((FindPositionCommand) other).keywords)); // state check
+    }
+}
@@ -61,8 +61,6 @@ public class MarkApplicantStatusCommand extends Command {
             throw new CommandException(String.format(MESSAGE_APPLICANT_STATUS_UNCHANGED, name, applicationStatus));
         }
 
-        memento.record(model.getCopiedModel());
-
         model.setApplicant(applicantToUpdate, applicantToUpdate.markAs(applicationStatus));
 
         String successMessage =
@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandUndoException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the latest modification to MTR that was undone.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redid the previous modification : \n";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandUndoException {
+        requireNonNull(model);
+
+        if (!model.hasUndoneHistory()) {
+            throw new CommandUndoException("Cannot redo because there is no undone modification.");
+        }
+
+        String redoneMessages = model.redoHistory();
+        return new CommandResult(MESSAGE_SUCCESS + redoneMessages);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this;
+    }
+}
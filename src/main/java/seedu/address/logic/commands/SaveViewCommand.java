@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.descriptors.FilterApplicantDescriptor;
+import seedu.address.logic.descriptors.FilterApplicantDescriptorVerifier;
+import seedu.address.model.Model;
+import seedu.address.model.applicant.filter.FilterExpression;
+
+/**
+ * Saves the applicants matching a filter expression as a named view, and shows the view.
+ * The view is kept up to date as applicants change, so that it can be shown again with a {@code ViewCommand} without
+ * filtering the applicants again.
+ */
+public class SaveViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "save-view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Saves the applicants matching the specified criteria as a view with the specified name, "
+            + "replacing any view with the same name, and shows the view. "
+            + "The criteria are those of " + FilterApplicantCommand.COMMAND_WORD + "." + "\n"
+            + "Parameters: NAME CRITERIA..." + "\n"
+            + "Example: " + COMMAND_WORD + " pending backend engineers "
+            + PREFIX_POSITION + "backend engineer "
+            + PREFIX_STATUS + "pending";
+
+    public static final String MESSAGE_SUCCESS = "Saved view %1$s: %2$s";
+
+    private final String name;
+    private final FilterExpression expression;
+
+    /**
+     * Creates a SaveViewCommand to save the applicants matching {@code expression} as the view named {@code name}.
+     */
+    public SaveViewCommand(String name, FilterExpression expression) {
+        requireAllNonNull(name, expression);
+        this.name = name;
+        this.expression = expression;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        FilterApplicantDescriptor invalidFilterApplicantDescriptor =
+                new FilterApplicantDescriptorVerifier(model, expression);
+        if (invalidFilterApplicantDescriptor.hasAnyFilter()) {
+            throw new CommandException(String.format(FilterApplicantCommand.MESSAGE_INVALID_FILTER,
+                    invalidFilterApplicantDescriptor));
+        }
+
+        model.saveApplicantView(name, expression);
+        model.showApplicantView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, expression));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SaveViewCommand // instanceof handles nulls
+                && name.equals(((SaveViewCommand) other).name)
+                && expression.equals(((SaveViewCommand) other).expression)); // state check
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Shows the applicants of a view saved with a {@code SaveViewCommand}.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the applicants of the saved view with the "
+            + "specified name (case-insensitive)." + "\n"
+            + "Parameters: NAME" + "\n"
+            + "Example: " + COMMAND_WORD + " pending backend engineers";
+
+    public static final String MESSAGE_SUCCESS = "Showing view: %1$s";
+    public static final String MESSAGE_VIEW_NOT_FOUND = "There is no saved view named %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a ViewCommand to show the view named {@code name}.
+     */
+    public ViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasApplicantView(name)) {
+            throw new CommandException(String.format(MESSAGE_VIEW_NOT_FOUND, name));
+        }
+
+        model.showApplicantView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ViewCommand // instanceof handles nulls
+                && name.equals(((ViewCommand) other).name)); // state check
+    }
+}
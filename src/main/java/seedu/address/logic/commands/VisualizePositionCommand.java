@@ -4,9 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.commands.AddApplicantCommand.MESSAGE_NO_SUCH_POSITION;
 import static seedu.address.logic.commands.RejectionRateCommand.MESSAGE_NO_CURRENT_APPLICANTS;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import javafx.scene.chart.PieChart;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.applicant.Application.ApplicationStatus;
 import seedu.address.model.position.Position;
 import seedu.address.model.position.Title;
 import seedu.address.model.position.exceptions.PositionNotFoundException;
@@ -54,7 +58,12 @@ public class VisualizePositionCommand extends Command {
             throw new CommandException(MESSAGE_NO_CURRENT_APPLICANTS);
         }
 
-        PieChart positionChart = new PositionPieChart(model.getFilteredApplicantList(), position);
+        Map<ApplicationStatus, Integer> applicantCountsByStatus = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            applicantCountsByStatus.put(status, model.countApplicantsWithStatus(position, status));
+        }
+
+        PieChart positionChart = new PositionPieChart(applicantCountsByStatus, position);
         PieChartDisplayer positionChartDisplayer = new PieChartDisplayer(positionChart);
         positionChartDisplayer.displayPieChart();
 
@@ -1,34 +1,96 @@
 package seedu.address.logic.commands.memento;
 
-import java.util.Stack;
+import static java.util.Objects.requireNonNull;
 
-import seedu.address.logic.commands.Command;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
+import seedu.address.commons.core.HistorySettings;
 
 /**
- * Records the command history.
+ * Records the modification history, so that modifications can be undone and then redone.
  * Refers to https://stackoverflow.com/questions/11530276/how-do-i-implement-a-simple-undo-redo-for-actions-in-java
+ *
+ * The history is bounded by {@code HistorySettings}: once it holds more modifications, or more applicants and
+ * positions in total, than allowed, the oldest modifications are forgotten. The latest modification is always kept.
  */
 public class History {
-    private Stack<Command> commandStack = new Stack<>();
+    private final Deque<Memento> undoStack = new ArrayDeque<>();
+    private final Deque<Memento> redoStack = new ArrayDeque<>();
+    private final HistorySettings historySettings;
+    private int recordCount;
 
+    /**
+     * Creates a {@code History} with the default limits.
+     */
+    public History() {
+        this(new HistorySettings());
+    }
 
-    public void add(Command command) {
-        commandStack.push(command);
+    /**
+     * Creates a {@code History} with the limits in {@code historySettings}.
+     */
+    public History(HistorySettings historySettings) {
+        requireNonNull(historySettings);
+        this.historySettings = historySettings;
+    }
+
+    /**
+     * Records {@code memento} as the latest modification.
+     * Modifications that were undone can no longer be redone afterwards.
+     */
+    public void add(Memento memento) {
+        requireNonNull(memento);
+        redoStack.forEach(undone -> recordCount -= undone.getRecordCount());
+        redoStack.clear();
+
+        undoStack.push(memento);
+        recordCount += memento.getRecordCount();
+        evictOldestModifications();
     }
 
     public boolean hasHistory() {
-        return commandStack.size() > 0;
+        return undoStack.size() > 0;
+    }
+
+    public boolean hasUndoneHistory() {
+        return redoStack.size() > 0;
     }
 
     /**
-     * Returns the previous memento.
+     * Returns the latest modification, which can then be redone.
      */
     public Memento recoverHistory() {
         assert hasHistory() : "There is no history to recover.";
-        Command previousCommand = commandStack.pop();
-        return previousCommand.getMemento();
+        Memento previousMemento = undoStack.pop();
+        redoStack.push(previousMemento);
+        return previousMemento;
     }
 
+    /**
+     * Returns the latest undone modification, which can then be undone again.
+     */
+    public Memento redoHistory() {
+        assert hasUndoneHistory() : "There is no undone history to redo.";
+        Memento undoneMemento = redoStack.pop();
+        undoStack.push(undoneMemento);
+        return undoneMemento;
+    }
 
+    /**
+     * Returns the number of applicants and positions held by the history.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Forgets the oldest modifications until the history is within its limits.
+     */
+    private void evictOldestModifications() {
+        while (undoStack.size() > 1 && (undoStack.size() > historySettings.getMaxEntries()
+                || recordCount > historySettings.getMaxRecords())) {
+            recordCount -= undoStack.removeLast().getRecordCount();
+        }
+    }
 }
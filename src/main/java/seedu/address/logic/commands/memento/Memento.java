@@ -1,31 +1,59 @@
 package seedu.address.logic.commands.memento;
 
-import seedu.address.model.Model;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Keeps a {@code model} when a modification command executes.
+ * Keeps the changes a modification command makes to the model, so that they can be undone and redone.
  * The use of Memento pattern is adapted from
  * https://stackoverflow.com/questions/11530276/how-do-i-implement-a-simple-undo-redo-for-actions-in-java.
  */
 public class Memento {
-    private Model model;
+    private final List<ModelChange> changes = new ArrayList<>();
     private String message;
+    private int recordCount;
 
     public Memento() {}
 
-    public void record(Model model) {
-        this.model = model;
+    /**
+     * Records {@code change} as the latest change made by the command.
+     */
+    public void record(ModelChange change) {
+        requireNonNull(change);
+        changes.add(change);
+        recordCount += change.getRecordCount();
     }
 
     public void recordMessage(String message) {
         this.message = message;
     }
 
-    public Model getModel() {
-        return model;
-    }
-
     public String getMessage() {
         return message;
     }
+
+    /**
+     * Returns the number of applicants and positions held by the recorded changes.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Reverts the recorded changes, latest first.
+     */
+    public void undo() {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert();
+        }
+    }
+
+    /**
+     * Reapplies the recorded changes in the order they were first made.
+     */
+    public void redo() {
+        changes.forEach(ModelChange::reapply);
+    }
 }
@@ -0,0 +1,39 @@
+package seedu.address.logic.commands.memento;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * Represents a single modification made to the model, stored as the actions that revert and reapply it.
+ * Only the applicants and positions affected by the modification are kept, rather than a copy of the whole model.
+ */
+public class ModelChange {
+    private final Runnable revertAction;
+    private final Runnable reapplyAction;
+    private final int recordCount;
+
+    /**
+     * Creates a {@code ModelChange}.
+     *
+     * @param revertAction Restores the model to its state before the modification.
+     * @param reapplyAction Makes the modification again on the reverted model.
+     * @param recordCount The number of applicants and positions held by the two actions.
+     */
+    public ModelChange(Runnable revertAction, Runnable reapplyAction, int recordCount) {
+        requireAllNonNull(revertAction, reapplyAction);
+        this.revertAction = revertAction;
+        this.reapplyAction = reapplyAction;
+        this.recordCount = recordCount;
+    }
+
+    public void revert() {
+        revertAction.run();
+    }
+
+    public void reapply() {
+        reapplyAction.run();
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+}
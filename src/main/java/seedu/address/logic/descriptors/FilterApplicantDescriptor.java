@@ -1,10 +1,16 @@
 package seedu.address.logic.descriptors;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.applicant.Application.ApplicationStatus;
+import seedu.address.model.applicant.filter.AndExpression;
+import seedu.address.model.applicant.filter.FilterExpression;
+import seedu.address.model.applicant.filter.PositionFilter;
+import seedu.address.model.applicant.filter.StatusFilter;
 import seedu.address.model.position.Title;
 
 /**
@@ -50,6 +56,16 @@ public class FilterApplicantDescriptor {
         return Optional.ofNullable(applicationStatus);
     }
 
+    /**
+     * Returns a {@code FilterExpression} matching the applicants that pass all the filters in the descriptor.
+     */
+    public FilterExpression toExpression() {
+        List<FilterExpression> filters = new ArrayList<>();
+        getPositionTitle().map(PositionFilter::new).ifPresent(filters::add);
+        getApplicationStatus().map(StatusFilter::new).ifPresent(filters::add);
+        return new AndExpression(filters);
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -1,8 +1,7 @@
 package seedu.address.logic.descriptors;
 
-import static seedu.address.model.applicant.ApplicantMatchesFiltersPredicate.passesFilter;
-
 import seedu.address.model.Model;
+import seedu.address.model.applicant.filter.FilterExpression;
 
 /**
  * A descriptor used to verify the validity of a FilterApplicantDescriptor.
@@ -15,11 +14,22 @@ public class FilterApplicantDescriptorVerifier extends FilterApplicantDescriptor
      * Verifies the validity of each filter in the specified {@code descriptor} against the given {@code model}.
      */
     public FilterApplicantDescriptorVerifier(Model model, FilterApplicantDescriptor descriptor) {
+        this(model, descriptor.toExpression());
+    }
+
+    /**
+     * Constructor for a FilterApplicantDescriptorVerifier.
+     *
+     * Verifies the validity of each filter in the specified {@code expression} against the given {@code model}.
+     * Only the first invalid position of {@code expression} is kept.
+     */
+    public FilterApplicantDescriptorVerifier(Model model, FilterExpression expression) {
         super();
 
-        if (!passesFilter(descriptor::getPositionTitle, model::hasPositionWithTitle)) {
-            setPositionTitle(descriptor.getPositionTitle().get());
-        }
+        expression.getPositionTitles().stream()
+                .filter(title -> !model.hasPositionWithTitle(title))
+                .findFirst()
+                .ifPresent(this::setPositionTitle);
     }
 
 }
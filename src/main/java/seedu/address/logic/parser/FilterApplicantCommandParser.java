@@ -1,13 +1,18 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import seedu.address.logic.commands.FilterApplicantCommand;
 import seedu.address.logic.descriptors.FilterApplicantDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.applicant.filter.AndExpression;
+import seedu.address.model.applicant.filter.FilterExpression;
+import seedu.address.model.applicant.filter.PositionFilter;
+import seedu.address.model.applicant.filter.StatusFilter;
 
 /**
  * Parses input arguments and creates a new FilterApplicantCommand object
@@ -21,24 +26,35 @@ public class FilterApplicantCommandParser implements Parser<FilterApplicantComma
      */
     public FilterApplicantCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_POSITION, PREFIX_STATUS);
+        FilterExpression expression = new FilterExpressionParser().parse(args);
 
-        FilterApplicantDescriptor filterApplicantDescriptor = new FilterApplicantDescriptor();
-        if (argMultimap.getValue(PREFIX_POSITION).isPresent()) {
-            filterApplicantDescriptor.setPositionTitle(
-                    ParserUtil.parseTitle(argMultimap.getValue(PREFIX_POSITION).get()));
-        }
-        if (argMultimap.getValue(PREFIX_STATUS).isPresent()) {
-            filterApplicantDescriptor.setApplicationStatus(
-                    ParserUtil.parseApplicationStatus(argMultimap.getValue(PREFIX_STATUS).get()));
+        Optional<FilterApplicantDescriptor> filterApplicantDescriptor = toDescriptor(expression);
+        if (filterApplicantDescriptor.isPresent()) {
+            return new FilterApplicantCommand(filterApplicantDescriptor.get());
         }
+        return new FilterApplicantCommand(expression);
+    }
 
-        if (!filterApplicantDescriptor.hasAnyFilter()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                    FilterApplicantCommand.MESSAGE_USAGE));
-        }
+    /**
+     * Returns a descriptor holding the filters of {@code expression}, if {@code expression} only requires at most
+     * one position and at most one status, as a descriptor can hold.
+     */
+    private static Optional<FilterApplicantDescriptor> toDescriptor(FilterExpression expression) {
+        List<FilterExpression> filters = expression instanceof AndExpression
+                ? ((AndExpression) expression).getOperands()
+                : Collections.singletonList(expression);
 
-        return new FilterApplicantCommand(filterApplicantDescriptor);
+        FilterApplicantDescriptor filterApplicantDescriptor = new FilterApplicantDescriptor();
+        for (FilterExpression filter : filters) {
+            if (filter instanceof PositionFilter && filterApplicantDescriptor.getPositionTitle().isEmpty()) {
+                filterApplicantDescriptor.setPositionTitle(((PositionFilter) filter).getTitle());
+            } else if (filter instanceof StatusFilter && filterApplicantDescriptor.getApplicationStatus().isEmpty()) {
+                filterApplicantDescriptor.setApplicationStatus(((StatusFilter) filter).getStatus());
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(filterApplicantDescriptor);
     }
 
 }
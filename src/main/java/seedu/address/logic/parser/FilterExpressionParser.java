@@ -0,0 +1,265 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.FilterApplicantCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.applicant.filter.AddressFilter;
+import seedu.address.model.applicant.filter.AndExpression;
+import seedu.address.model.applicant.filter.EmailDomainFilter;
+import seedu.address.model.applicant.filter.FilterExpression;
+import seedu.address.model.applicant.filter.NameFilter;
+import seedu.address.model.applicant.filter.NotExpression;
+import seedu.address.model.applicant.filter.OrExpression;
+import seedu.address.model.applicant.filter.PositionFilter;
+import seedu.address.model.applicant.filter.StatusFilter;
+
+/**
+ * Parses the criteria of a FilterApplicantCommand into a tree of {@code FilterExpression}s.
+ *
+ * A criterion is a prefix followed by its value, which extends up to the next criterion, operator or parenthesis.
+ * A word of a value reading {@code AND}, {@code OR} or {@code NOT} is only an operator if it ends the criteria or
+ * another criterion, {@code NOT} or parenthesis follows it, so that a value such as a position title may hold it.
+ * Criteria are combined by, from the tightest binding, {@code NOT}, {@code AND} and {@code OR}, and grouped with
+ * parentheses. Criteria without an operator between them are combined with {@code AND}.
+ */
+public class FilterExpressionParser {
+    public static final String AND = "AND";
+    public static final String OR = "OR";
+    public static final String NOT = "NOT";
+
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final List<Prefix> CRITERIA_PREFIXES =
+            Arrays.asList(PREFIX_POSITION, PREFIX_STATUS, PREFIX_NAME, PREFIX_EMAIL, PREFIX_ADDRESS);
+
+    private List<String> tokens;
+    private int nextToken;
+
+    /**
+     * Parses {@code args} into a {@code FilterExpression}.
+     *
+     * @throws ParseException If {@code args} is not a well-formed expression, or a criterion has an invalid value.
+     */
+    public FilterExpression parse(String args) throws ParseException {
+        requireNonNull(args);
+        tokens = tokenize(args);
+        nextToken = 0;
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        FilterExpression expression = parseDisjunction();
+        if (hasNextToken()) {
+            throw invalidFormat();
+        }
+        return expression;
+    }
+
+    /**
+     * Returns true if {@code word} can start an expression, as a criterion, a {@code NOT} or an opening parenthesis.
+     */
+    public static boolean canStartExpression(String word) {
+        requireNonNull(word);
+        return word.startsWith(OPEN_PARENTHESIS) || word.equals(NOT) || getPrefix(word) != null;
+    }
+
+    /**
+     * Splits {@code args} into parentheses, operators and criteria, each criterion holding its whole value.
+     */
+    private static List<String> tokenize(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder criterion = null;
+        String[] words = args.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            int start = 0;
+            int end = word.length();
+            while (start < end && word.startsWith(OPEN_PARENTHESIS, start)) {
+                criterion = addCriterion(tokens, criterion);
+                tokens.add(OPEN_PARENTHESIS);
+                start++;
+            }
+            int closeParentheses = 0;
+            while (end > start && word.startsWith(CLOSE_PARENTHESIS, end - 1)) {
+                closeParentheses++;
+                end--;
+            }
+
+            String core = word.substring(start, end);
+            boolean isInValue = criterion != null && start == 0 && closeParentheses == 0;
+            if (isOperator(core) && (!isInValue || i + 1 == words.length || startsExpression(words, i + 1))) {
+                criterion = addCriterion(tokens, criterion);
+                tokens.add(core);
+            } else if (getPrefix(core) != null) {
+                addCriterion(tokens, criterion);
+                criterion = new StringBuilder(core);
+            } else if (!core.isEmpty()) {
+                if (criterion == null) {
+                    throw invalidFormat();
+                }
+                criterion.append(' ').append(core);
+            }
+
+            for (int j = 0; j < closeParentheses; j++) {
+                criterion = addCriterion(tokens, criterion);
+                tokens.add(CLOSE_PARENTHESIS);
+            }
+        }
+        addCriterion(tokens, criterion);
+        return tokens;
+    }
+
+    private static boolean isOperator(String word) {
+        return word.equals(AND) || word.equals(OR) || word.equals(NOT);
+    }
+
+    /**
+     * Returns true if the words from {@code index} on start an expression, rather than continue a criterion's value.
+     */
+    private static boolean startsExpression(String[] words, int index) {
+        if (index == words.length) {
+            return false;
+        }
+        String word = words[index];
+        if (word.equals(NOT)) {
+            return startsExpression(words, index + 1);
+        }
+        return word.startsWith(OPEN_PARENTHESIS) || getPrefix(word) != null;
+    }
+
+    /**
+     * Adds {@code criterion} to {@code tokens} if there is one, and returns null as the criterion being read.
+     */
+    private static StringBuilder addCriterion(List<String> tokens, StringBuilder criterion) {
+        if (criterion != null) {
+            tokens.add(criterion.toString());
+        }
+        return null;
+    }
+
+    /**
+     * disjunction := conjunction (OR conjunction)*
+     */
+    private FilterExpression parseDisjunction() throws ParseException {
+        List<FilterExpression> operands = new ArrayList<>();
+        operands.add(parseConjunction());
+        while (hasNextToken() && peekToken().equals(OR)) {
+            nextToken++;
+            operands.add(parseConjunction());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrExpression(operands);
+    }
+
+    /**
+     * conjunction := negation ([AND] negation)*
+     */
+    private FilterExpression parseConjunction() throws ParseException {
+        List<FilterExpression> operands = new ArrayList<>();
+        operands.add(parseNegation());
+        while (hasNextToken() && !peekToken().equals(OR) && !peekToken().equals(CLOSE_PARENTHESIS)) {
+            if (peekToken().equals(AND)) {
+                nextToken++;
+            }
+            operands.add(parseNegation());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndExpression(operands);
+    }
+
+    /**
+     * negation := NOT negation | ( disjunction ) | criterion
+     */
+    private FilterExpression parseNegation() throws ParseException {
+        if (!hasNextToken()) {
+            throw invalidFormat();
+        }
+
+        String token = tokens.get(nextToken++);
+        if (token.equals(NOT)) {
+            return new NotExpression(parseNegation());
+        }
+        if (token.equals(OPEN_PARENTHESIS)) {
+            FilterExpression expression = parseDisjunction();
+            if (!hasNextToken() || !tokens.get(nextToken++).equals(CLOSE_PARENTHESIS)) {
+                throw invalidFormat();
+            }
+            return expression;
+        }
+
+        Prefix prefix = getPrefix(token);
+        if (prefix == null) {
+            throw invalidFormat();
+        }
+        return parseCriterion(prefix, token.substring(prefix.getPrefix().length()).trim());
+    }
+
+    /**
+     * Parses the criterion with {@code prefix} and {@code value}.
+     * A name or address criterion with several words requires all of them.
+     */
+    private static FilterExpression parseCriterion(Prefix prefix, String value) throws ParseException {
+        if (value.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        if (prefix.equals(PREFIX_POSITION)) {
+            return new PositionFilter(ParserUtil.parseTitle(value));
+        } else if (prefix.equals(PREFIX_STATUS)) {
+            return new StatusFilter(ParserUtil.parseApplicationStatus(value));
+        } else if (prefix.equals(PREFIX_NAME)) {
+            return allWordsOf(value, NameFilter::new);
+        } else if (prefix.equals(PREFIX_ADDRESS)) {
+            return allWordsOf(value, AddressFilter::new);
+        } else {
+            String domain = value.startsWith("@") ? value.substring(1) : value;
+            if (domain.isEmpty() || domain.contains(" ")) {
+                throw invalidFormat();
+            }
+            return new EmailDomainFilter(domain);
+        }
+    }
+
+    /**
+     * Returns an expression requiring the filter created by {@code toFilter} for each word of {@code value}.
+     */
+    private static FilterExpression allWordsOf(String value, Function<String, FilterExpression> toFilter) {
+        List<FilterExpression> filters = Arrays.stream(value.split("\\s+"))
+                .map(toFilter)
+                .collect(Collectors.toList());
+        return filters.size() == 1 ? filters.get(0) : new AndExpression(filters);
+    }
+
+    /**
+     * Returns the criterion prefix {@code token} starts with, or null if there is none.
+     */
+    private static Prefix getPrefix(String token) {
+        return CRITERIA_PREFIXES.stream()
+                .filter(prefix -> token.startsWith(prefix.getPrefix()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private boolean hasNextToken() {
+        return nextToken < tokens.size();
+    }
+
+    private String peekToken() {
+        return tokens.get(nextToken);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterApplicantCommand.MESSAGE_USAGE));
+    }
+}
@@ -3,10 +3,12 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindApplicantCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.applicant.NameContainsKeywordsPredicate;
+import seedu.address.model.applicant.NameSimilarToKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindApplicantCommand object
@@ -26,7 +28,15 @@ public class FindApplicantCommandParser implements Parser<FindApplicantCommand>
         }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        if (!nameKeywords[0].equals(FindApplicantCommand.FUZZY_FLAG)) {
+            return new FindApplicantCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        }
 
-        return new FindApplicantCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        List<String> fuzzyKeywords = Arrays.asList(nameKeywords).subList(1, nameKeywords.length);
+        if (fuzzyKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindApplicantCommand.MESSAGE_USAGE));
+        }
+        return new FindApplicantCommand(new NameSimilarToKeywordsPredicate(fuzzyKeywords));
     }
 }
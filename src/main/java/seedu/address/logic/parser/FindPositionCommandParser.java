@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.FindPositionCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindPositionCommand object
+ */
+public class FindPositionCommandParser implements Parser<FindPositionCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindPositionCommand
+     * and returns a FindPositionCommand object for execution.
+     *
+     * @throws ParseException If the user input does not conform the expected format.
+     */
+    public FindPositionCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPositionCommand.MESSAGE_USAGE));
+        }
+
+        return new FindPositionCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+}
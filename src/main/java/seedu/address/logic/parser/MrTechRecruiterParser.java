@@ -16,12 +16,16 @@ import seedu.address.logic.commands.EditPositionCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterApplicantCommand;
 import seedu.address.logic.commands.FindApplicantCommand;
+import seedu.address.logic.commands.FindPositionCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListApplicantCommand;
 import seedu.address.logic.commands.ListPositionCommand;
 import seedu.address.logic.commands.MarkApplicantStatusCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RejectionRateCommand;
+import seedu.address.logic.commands.SaveViewCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.commands.VisualizePositionCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -91,15 +95,27 @@ public class MrTechRecruiterParser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case FindApplicantCommand.COMMAND_WORD:
             return new FindApplicantCommandParser().parse(arguments);
 
+        case FindPositionCommand.COMMAND_WORD:
+            return new FindPositionCommandParser().parse(arguments);
+
         case VisualizePositionCommand.COMMAND_WORD:
             return new VisualizePositionCommandParser().parse(arguments);
 
         case MarkApplicantStatusCommand.COMMAND_WORD:
             return new MarkApplicantStatusCommandParser().parse(arguments);
 
+        case SaveViewCommand.COMMAND_WORD:
+            return new SaveViewCommandParser().parse(arguments);
+
+        case ViewCommand.COMMAND_WORD:
+            return new ViewCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
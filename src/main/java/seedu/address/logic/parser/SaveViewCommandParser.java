@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.SaveViewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.applicant.filter.FilterExpression;
+
+/**
+ * Parses input arguments and creates a new SaveViewCommand object
+ */
+public class SaveViewCommandParser implements Parser<SaveViewCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the SaveViewCommand
+     * and returns a SaveViewCommand object for execution.
+     * The name of the view is made of the words before the first word that can start the criteria.
+     *
+     * @throws ParseException If the user input does not conform the expected format.
+     */
+    public SaveViewCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] words = args.trim().split("\\s+");
+        int criteriaStart = 0;
+        while (criteriaStart < words.length && !FilterExpressionParser.canStartExpression(words[criteriaStart])) {
+            criteriaStart++;
+        }
+        if (criteriaStart == 0 || criteriaStart == words.length) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE));
+        }
+
+        String name = String.join(" ", Arrays.copyOfRange(words, 0, criteriaStart));
+        FilterExpression expression = new FilterExpressionParser()
+                .parse(String.join(" ", Arrays.copyOfRange(words, criteriaStart, words.length)));
+        return new SaveViewCommand(name, expression);
+    }
+}
@@ -2,12 +2,18 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Application.ApplicationStatus;
 import seedu.address.model.applicant.Name;
 import seedu.address.model.applicant.UniqueApplicantList;
+import seedu.address.model.applicant.filter.FilterExpression;
 import seedu.address.model.position.Position;
 
 /**
@@ -54,9 +60,28 @@ public class ApplicantBook implements ReadOnlyApplicantBook {
      */
     public void resetData(ReadOnlyApplicantBook newData) {
         requireNonNull(newData);
+        if (newData instanceof ApplicantBook) {
+            // applicants are immutable and already known to be unique, so they can be shared as they are
+            applicants.setApplicants(((ApplicantBook) newData).applicants);
+            return;
+        }
         setApplicants(newData.getApplicantList());
     }
 
+    /**
+     * Defers change notifications of the applicant list until the matching {@code endBatch()}.
+     */
+    public void beginBatch() {
+        applicants.beginBatch();
+    }
+
+    /**
+     * Notifies listeners of the applicant list of all modifications made since the outermost {@code beginBatch()}.
+     */
+    public void endBatch() {
+        applicants.endBatch();
+    }
+
     //// position-level operations
 
     /**
@@ -83,6 +108,74 @@ public class ApplicantBook implements ReadOnlyApplicantBook {
         return applicants.hasApplicantsApplyingTo(position);
     }
 
+    /**
+     * Returns the applicants whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Applicant> getApplicantsWithNameContainingAnyOf(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return applicants.getApplicantsWithNameContainingAnyOf(keywords);
+    }
+
+    /**
+     * Returns the applicants whose name has a word within a few typos of any of {@code keywords}, each mapped to
+     * the fewest typos among its matching words.
+     */
+    public Map<Applicant, Integer> getApplicantsWithNameSimilarTo(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return applicants.getApplicantsWithNameSimilarTo(keywords);
+    }
+
+    /**
+     * Returns the applicants matching {@code expression}, looking up as much of it as possible in the indexes.
+     */
+    public Set<Applicant> getApplicantsMatching(FilterExpression expression) {
+        requireNonNull(expression);
+        return applicants.getApplicantsMatching(expression);
+    }
+
+    /**
+     * Returns the applicants applying to {@code position} in the applicant book.
+     */
+    public List<Applicant> getApplicantsApplyingTo(Position position) {
+        requireNonNull(position);
+        return applicants.getApplicantsApplyingTo(position);
+    }
+
+    /**
+     * Returns the indexes of the applicants applying to {@code position} in the applicant list, in ascending order.
+     */
+    public int[] getIndexesOfApplicantsApplyingTo(Position position) {
+        requireNonNull(position);
+        return applicants.getRowsApplyingTo(position);
+    }
+
+    /**
+     * Returns the indexes of {@code applicants} in the applicant list, in ascending order.
+     * The applicants must all be in the applicant book.
+     */
+    public int[] getIndexesOf(Collection<Applicant> applicants) {
+        requireNonNull(applicants);
+        return this.applicants.getRowsOf(applicants);
+    }
+
+    /**
+     * Returns the number of applicants applying to {@code position} in the applicant book.
+     */
+    public int countApplicantsApplyingTo(Position position) {
+        requireNonNull(position);
+        return applicants.countApplicantsApplyingTo(position);
+    }
+
+    /**
+     * Returns the number of applicants applying to {@code position} with {@code applicationStatus}
+     * in the applicant book.
+     */
+    public int countApplicantsWithStatus(Position position, ApplicationStatus applicationStatus) {
+        requireNonNull(position);
+        requireNonNull(applicationStatus);
+        return applicants.countApplicantsWithStatus(position, applicationStatus);
+    }
+
     /**
      * Returns the applicant with the specified name, if any.
      */
@@ -99,6 +192,22 @@ public class ApplicantBook implements ReadOnlyApplicantBook {
         applicants.add(a);
     }
 
+    /**
+     * Inserts an applicant into the applicant list at {@code index}.
+     * The applicant must not already exist in the applicant book.
+     */
+    public void addApplicant(int index, Applicant a) {
+        applicants.add(index, a);
+    }
+
+    /**
+     * Inserts {@code applicantsToAdd} into the applicant list at {@code indexes}, which must be in ascending order.
+     * The applicants must not already exist in the applicant book.
+     */
+    public void addApplicants(int[] indexes, List<Applicant> applicantsToAdd) {
+        applicants.addAll(indexes, applicantsToAdd);
+    }
+
     /**
      * Replaces the given applicant {@code target} in the list with {@code editedApplicant}.
      * {@code target} must exist in the applicant book.
@@ -118,15 +227,30 @@ public class ApplicantBook implements ReadOnlyApplicantBook {
         applicants.remove(key);
     }
 
+    /**
+     * Removes all applicants applying to {@code position} from this {@code ApplicantBook}.
+     */
     public void removeApplicantsUnderPosition(Position position) {
-        applicants.removeIf(applicant -> applicant.isApplyingTo(position));
+        applicants.removeApplicantsApplyingTo(position);
     }
 
+    /**
+     * Updates all applicants applying to {@code positionToEdit} with {@code editedPosition}.
+     */
     public void updateApplicantsWithPosition(Position positionToEdit,
                                              Position editedPosition) {
         applicants.updateApplicantsWithPosition(positionToEdit, editedPosition);
     }
 
+    /**
+     * Makes every applicant refer to the instance returned by {@code canonicalPosition} for their position.
+     *
+     * @see UniqueApplicantList#internPositions(UnaryOperator)
+     */
+    public void internPositions(UnaryOperator<Position> canonicalPosition) {
+        applicants.internPositions(canonicalPosition);
+    }
+
     @Override
     public String toString() {
         return applicants.asUnmodifiableObservableList().size() + " applicants";
@@ -144,11 +268,4 @@ public class ApplicantBook implements ReadOnlyApplicantBook {
                 || (other instanceof ApplicantBook // instanceof handles nulls
                 && applicants.equals(((ApplicantBook) other).applicants));
     }
-
-    public ApplicantBook getCopiedApplicantBook() {
-        ApplicantBook copiedApplicantBook = new ApplicantBook();
-        copiedApplicantBook.applicants.setApplicants(this.applicants.getCopiedApplicants());
-
-        return copiedApplicantBook;
-    }
 }
@@ -0,0 +1,36 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * An unchanging copy of the applicants of an applicant book, which can be read on another thread while the book
+ * changes.
+ * Applicants are immutable, so only the list is copied, without indexing the applicants as an {@code ApplicantBook}
+ * does.
+ */
+public class ApplicantBookSnapshot implements ReadOnlyApplicantBook {
+    private final ObservableList<Applicant> applicants;
+
+    /**
+     * Creates an ApplicantBookSnapshot of the applicants currently in {@code applicantBook}.
+     */
+    public ApplicantBookSnapshot(ReadOnlyApplicantBook applicantBook) {
+        requireNonNull(applicantBook);
+        applicants = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(applicantBook.getApplicantList()));
+    }
+
+    @Override
+    public ObservableList<Applicant> getApplicantList() {
+        return applicants;
+    }
+
+    @Override
+    public String toString() {
+        return applicants.size() + " applicants";
+    }
+}
@@ -1,17 +1,24 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.memento.Memento;
 import seedu.address.model.applicant.Applicant;
 import seedu.address.model.applicant.ApplicantParticulars;
+import seedu.address.model.applicant.Application.ApplicationStatus;
 import seedu.address.model.applicant.Name;
+import seedu.address.model.applicant.filter.FilterExpression;
 import seedu.address.model.position.Position;
 import seedu.address.model.position.Title;
+import seedu.address.model.util.QueryCacheStatistics;
 
 /**
  * The API of the Model component.
@@ -94,6 +101,21 @@ public interface Model {
      */
     void updateFilteredPositionList(Predicate<Position> predicate);
 
+    /**
+     * Updates the filter of the filtered position list to filter by the given {@code predicate}, and orders the
+     * filtered positions by {@code comparator}.
+     * The order is reset to that of the position list by the next {@link #updateFilteredPositionList(Predicate)}.
+     *
+     * @throws NullPointerException If {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPositionList(Predicate<Position> predicate, Comparator<Position> comparator);
+
+    /**
+     * Returns at most {@code limit} positions in MrTechRecruiter matching any of {@code keywords} in their title or
+     * description, from the most relevant.
+     */
+    List<Position> searchPositions(Collection<String> keywords, int limit);
+
     //=========== Applicant related methods =============================================================
 
     /**
@@ -127,9 +149,40 @@ public interface Model {
     /** Returns true if MrTechRecruiter has applicants applying to the specified position. */
     boolean hasApplicantsApplyingTo(Position position);
 
+    /** Returns the number of applicants in MrTechRecruiter applying to the specified position. */
+    int countApplicantsApplyingTo(Position position);
+
+    /**
+     * Returns the number of applicants in MrTechRecruiter applying to the specified position
+     * with the specified application status.
+     */
+    int countApplicantsWithStatus(Position position, ApplicationStatus applicationStatus);
+
     /** Returns the applicant with the specified name, if any. */
     Applicant getApplicantWithName(Name name);
 
+    /**
+     * Returns the applicants in MrTechRecruiter whose name contains any of {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    Set<Applicant> getApplicantsWithNameContainingAnyOf(Collection<String> keywords);
+
+    /**
+     * Returns the applicants in MrTechRecruiter whose name has a word within a few typos of any of {@code keywords},
+     * each mapped to the fewest typos among its matching words.
+     */
+    Map<Applicant, Integer> getApplicantsWithNameSimilarTo(Collection<String> keywords);
+
+    /**
+     * Returns the applicants in MrTechRecruiter matching {@code expression}.
+     */
+    Set<Applicant> getApplicantsMatching(FilterExpression expression);
+
+    /**
+     * Returns the hit, miss and eviction counts of the cache of applicant query results.
+     */
+    QueryCacheStatistics getApplicantQueryCacheStatistics();
+
     /**
      * Deletes the given applicant.
      * The applicant must exist in the address book.
@@ -161,18 +214,79 @@ public interface Model {
      */
     void updateFilteredApplicantList(Predicate<Applicant> predicateShowAllApplicants);
 
+    /**
+     * Updates the filter of the filtered applicant list to filter by the given {@code predicate}, and orders the
+     * filtered applicants by {@code comparator}.
+     * The order is reset to that of the applicant list by the next {@link #updateFilteredApplicantList(Predicate)}.
+     *
+     * @throws NullPointerException If {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredApplicantList(Predicate<Applicant> predicate, Comparator<Applicant> comparator);
+
+    /**
+     * Updates the filter of the filtered applicant list to filter by the given {@code predicate}, which is known to
+     * match exactly {@code matchingApplicants}, such as the applicants looked up in an index. The filtered list is
+     * built from {@code matchingApplicants} without testing every applicant against {@code predicate}; applicants
+     * added or edited later are tested against it.
+     *
+     * @throws NullPointerException If {@code predicate} or {@code matchingApplicants} is null.
+     */
+    void updateFilteredApplicantList(Predicate<Applicant> predicate, Collection<Applicant> matchingApplicants);
+
+    /**
+     * Updates the filter of the filtered applicant list to filter by the given {@code predicate}, which is known to
+     * match exactly {@code matchingApplicants}, and orders the filtered applicants by {@code comparator}.
+     *
+     * @throws NullPointerException If any argument is null.
+     * @see #updateFilteredApplicantList(Predicate, Collection)
+     */
+    void updateFilteredApplicantList(Predicate<Applicant> predicate, Collection<Applicant> matchingApplicants,
+                                     Comparator<Applicant> comparator);
+
+    /**
+     * Saves the applicants matching {@code predicate} as a view named {@code name}, replacing any view of the same
+     * name. Names are compared ignoring case and spacing.
+     * The view stays up to date as applicants are added, edited and removed.
+     *
+     * @throws NullPointerException If {@code name} or {@code predicate} is null.
+     */
+    void saveApplicantView(String name, Predicate<Applicant> predicate);
+
+    /**
+     * Returns true if a view named {@code name} has been saved.
+     */
+    boolean hasApplicantView(String name);
+
+    /**
+     * Shows the saved view named {@code name} as the filtered applicant list, until the next
+     * {@link #updateFilteredApplicantList(Predicate)}.
+     * The view must exist.
+     */
+    void showApplicantView(String name);
+
     void updateApplicantsWithPosition(Position positionToEdit, Position editedPosition);
 
     /**
-     * Returns a deep-copied model.
+     * Starts a batch of modifications, which are shown to the UI as a single change once {@code commitBatch()}
+     * is called. Batches can be nested. Every call must be matched by a call to {@code commitBatch()}.
      */
-    Model getCopiedModel();
+    void beginBatch();
 
     /**
-     * Records the modification history.
+     * Ends the batch of modifications started by the matching {@code beginBatch()}.
+     */
+    void commitBatch();
+
+    /**
+     * Records the changes made since the last recorded command as the modifications of {@code command}.
      */
     void addToHistory(Command command);
 
+    /**
+     * Reverts the changes made since the last recorded command, which are then no longer recorded.
+     */
+    void revertPendingChanges();
+
     /**
      * Returns true if there exists history to recover.
      */
@@ -183,5 +297,13 @@ public interface Model {
      */
     String recoverHistory();
 
-    String resetData(Memento memento);
+    /**
+     * Returns true if there exists undone history to redo.
+     */
+    boolean hasUndoneHistory();
+
+    /**
+     * Redoes the latest undone modification.
+     */
+    String redoHistory();
 }
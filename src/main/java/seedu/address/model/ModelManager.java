@@ -1,38 +1,74 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.memento.History;
 import seedu.address.logic.commands.memento.Memento;
+import seedu.address.logic.commands.memento.ModelChange;
 import seedu.address.model.applicant.Applicant;
 import seedu.address.model.applicant.ApplicantParticulars;
 import seedu.address.model.applicant.Application.ApplicationStatus;
 import seedu.address.model.applicant.Name;
+import seedu.address.model.applicant.filter.FilterExpression;
+import seedu.address.model.applicant.filter.NameFilter;
+import seedu.address.model.applicant.filter.OrExpression;
 import seedu.address.model.position.Position;
 import seedu.address.model.position.Title;
+import seedu.address.model.util.IndexedFilteredList;
+import seedu.address.model.util.QueryCacheStatistics;
+import seedu.address.model.util.QueryResultCache;
+import seedu.address.model.util.SwitchableObservableList;
 
 /**
  * Represents the in-memory model of the address book data.
+ * The results of applicant queries are cached against a version of the applicant list, which is advanced by every
+ * change to the list, so that repeated queries are answered without looking them up again until the list changes.
  */
 public class ModelManager implements Model {
+    public static final int APPLICANT_QUERY_CACHE_CAPACITY = 64;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final PositionBook positionBook;
     private final ApplicantBook applicantBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Applicant> filteredApplicants;
+    private final IndexedFilteredList<Applicant> filteredApplicants;
+    private final SortedList<Applicant> sortedApplicants;
+    private final SwitchableObservableList<Applicant> displayedApplicants;
+    private final Map<String, FilteredList<Applicant>> applicantViews = new HashMap<>();
     private final FilteredList<Position> filteredPositions;
+    private final SortedList<Position> sortedPositions;
     private final History history;
+    private Memento pendingChanges = new Memento();
+    private final QueryResultCache<FilterExpression, Applicant[]> applicantQueryCache =
+            new QueryResultCache<>(APPLICANT_QUERY_CACHE_CAPACITY);
+    private long applicantVersion;
 
     /**
      * Initializes a ModelManager with the given positionBook, applicantBook, applicationBook and userPrefs.
@@ -40,19 +76,7 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyApplicantBook applicantBook,
                         ReadOnlyPositionBook positionBook,
                         ReadOnlyUserPrefs userPrefs) {
-        super();
-        requireAllNonNull(applicantBook, positionBook, userPrefs);
-
-        logger.fine("Initializing with applicant book: " + applicantBook
-                + ", position book: " + positionBook
-                + ", userPrefs: " + userPrefs);
-
-        this.positionBook = new PositionBook(positionBook);
-        this.applicantBook = new ApplicantBook(applicantBook);
-        this.userPrefs = new UserPrefs(userPrefs);
-        filteredApplicants = new FilteredList<>(this.applicantBook.getApplicantList());
-        filteredPositions = new FilteredList<>(this.positionBook.getPositionList());
-        history = new History();
+        this(applicantBook, positionBook, userPrefs, new History(userPrefs.getHistorySettings()));
     }
 
     /**
@@ -62,7 +86,7 @@ public class ModelManager implements Model {
                         ReadOnlyPositionBook positionBook,
                         ReadOnlyUserPrefs userPrefs, History changeHistory) {
         super();
-        requireAllNonNull(applicantBook, positionBook, userPrefs);
+        requireAllNonNull(applicantBook, positionBook, userPrefs, changeHistory);
 
         logger.fine("Initializing with applicant book: " + applicantBook
                 + ", position book: " + positionBook
@@ -70,9 +94,14 @@ public class ModelManager implements Model {
 
         this.positionBook = new PositionBook(positionBook);
         this.applicantBook = new ApplicantBook(applicantBook);
+        this.applicantBook.internPositions(this.positionBook::intern);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredApplicants = new FilteredList<>(this.applicantBook.getApplicantList());
+        filteredApplicants = new IndexedFilteredList<>(this.applicantBook.getApplicantList());
+        sortedApplicants = new SortedList<>(filteredApplicants);
+        displayedApplicants = new SwitchableObservableList<>(sortedApplicants);
+        this.applicantBook.getApplicantList().addListener((ListChangeListener<Applicant>) change -> applicantVersion++);
         filteredPositions = new FilteredList<>(this.positionBook.getPositionList());
+        sortedPositions = new SortedList<>(filteredPositions);
         this.history = changeHistory;
     }
 
@@ -80,36 +109,14 @@ public class ModelManager implements Model {
      * Initializes a ModelManager with the given userPrefs.
      */
     public ModelManager(ReadOnlyUserPrefs userPrefs) {
-        super();
-        requireAllNonNull(userPrefs);
-
-        logger.fine("Initializing with user prefs " + userPrefs);
-
-        this.positionBook = new PositionBook();
-        this.applicantBook = new ApplicantBook();
-        this.userPrefs = new UserPrefs(userPrefs);
-
-        filteredApplicants = new FilteredList<>(this.applicantBook.getApplicantList());
-        filteredPositions = new FilteredList<>(this.positionBook.getPositionList());
-        history = new History();
+        this(new ApplicantBook(), new PositionBook(), userPrefs);
     }
 
     /**
      * Initializes a ModelManager with the given positionBook and userPrefs.
      */
     public ModelManager(ReadOnlyPositionBook positionBook, ReadOnlyUserPrefs userPrefs) {
-        super();
-        requireAllNonNull(positionBook, userPrefs);
-
-        logger.fine("Initializing with position book: " + positionBook + " and user prefs " + userPrefs);
-
-        this.positionBook = new PositionBook(positionBook);
-        this.applicantBook = new ApplicantBook();
-        this.userPrefs = new UserPrefs(userPrefs);
-
-        filteredApplicants = new FilteredList<>(this.applicantBook.getApplicantList());
-        filteredPositions = new FilteredList<>(this.positionBook.getPositionList());
-        history = new History();
+        this(new ApplicantBook(), positionBook, userPrefs);
     }
 
     /**
@@ -117,18 +124,7 @@ public class ModelManager implements Model {
      */
     public ModelManager(ReadOnlyPositionBook positionBook, ReadOnlyApplicantBook applicantBook,
                         ReadOnlyUserPrefs userPrefs) {
-        super();
-        requireAllNonNull(positionBook, userPrefs);
-
-        logger.fine("Initializing with position book: " + positionBook + " and user prefs " + userPrefs);
-
-        this.positionBook = new PositionBook(positionBook);
-        this.applicantBook = new ApplicantBook(applicantBook);
-        this.userPrefs = new UserPrefs(userPrefs);
-
-        filteredApplicants = new FilteredList<>(this.applicantBook.getApplicantList());
-        filteredPositions = new FilteredList<>(this.positionBook.getPositionList());
-        history = new History();
+        this(applicantBook, positionBook, userPrefs);
     }
 
     /**
@@ -168,6 +164,8 @@ public class ModelManager implements Model {
     public void setPosition(Position target, Position editedPosition) {
         requireAllNonNull(target, editedPosition);
         positionBook.setPosition(target, editedPosition);
+        recordChange(() -> positionBook.setPosition(editedPosition, target), () ->
+                positionBook.setPosition(target, editedPosition), 2);
     }
 
     @Override
@@ -195,18 +193,39 @@ public class ModelManager implements Model {
     @Override
     public void addPosition(Position position) {
         positionBook.addPosition(position);
+        recordChange(() -> positionBook.removePosition(position), () -> positionBook.addPosition(position), 1);
         updateFilteredPositionList(PREDICATE_SHOW_ALL_POSITIONS);
     }
 
     @Override
     public void deletePosition(Position positionToDelete) {
+        int positionIndex = positionBook.getPositionList().indexOf(positionToDelete);
+        int[] applicantIndexes = applicantBook.getIndexesOfApplicantsApplyingTo(positionToDelete);
+        List<Applicant> applicantsToDelete = Arrays.stream(applicantIndexes)
+                .mapToObj(applicantBook.getApplicantList()::get)
+                .collect(Collectors.toList());
+
         positionBook.removePosition(positionToDelete);
         applicantBook.removeApplicantsUnderPosition(positionToDelete);
+
+        recordChange(() -> {
+            positionBook.addPosition(positionIndex, positionToDelete);
+            applicantBook.addApplicants(applicantIndexes, applicantsToDelete);
+        }, () -> {
+            positionBook.removePosition(positionToDelete);
+            applicantBook.removeApplicantsUnderPosition(positionToDelete);
+        }, 1 + applicantsToDelete.size());
     }
 
     @Override
     public void setPositionBook(ReadOnlyPositionBook positionBook) {
+        PositionBook previousPositionBook = new PositionBook(this.positionBook);
         this.positionBook.resetData(positionBook);
+        PositionBook newPositionBook = new PositionBook(this.positionBook);
+
+        recordChange(() -> this.positionBook.resetData(previousPositionBook), () ->
+                this.positionBook.resetData(newPositionBook), previousPositionBook.getPositionList().size()
+                        + newPositionBook.getPositionList().size());
     }
 
     @Override
@@ -216,13 +235,27 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Position> getFilteredPositionList() {
-        return filteredPositions;
+        return sortedPositions;
     }
 
     @Override
     public void updateFilteredPositionList(Predicate<Position> predicate) {
         requireNonNull(predicate);
         filteredPositions.setPredicate(predicate);
+        sortedPositions.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPositionList(Predicate<Position> predicate, Comparator<Position> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredPositions.setPredicate(predicate);
+        sortedPositions.setComparator(comparator);
+    }
+
+    @Override
+    public List<Position> searchPositions(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return positionBook.searchPositions(keywords, limit);
     }
 
     //=========== Applicant and ApplicantBook =============================================================
@@ -233,13 +266,23 @@ public class ModelManager implements Model {
     }
 
     public void setApplicantBook(ReadOnlyApplicantBook applicantBook) {
+        ApplicantBook previousApplicantBook = new ApplicantBook(this.applicantBook);
         this.applicantBook.resetData(applicantBook);
+        this.applicantBook.internPositions(positionBook::intern);
+        ApplicantBook newApplicantBook = new ApplicantBook(this.applicantBook);
+
+        recordChange(() -> this.applicantBook.resetData(previousApplicantBook), () ->
+                this.applicantBook.resetData(newApplicantBook), previousApplicantBook.getApplicantList().size()
+                        + newApplicantBook.getApplicantList().size());
     }
 
     @Override
-    public void setApplicant(Applicant target, Applicant editedApplicant) {
-        requireAllNonNull(target, editedApplicant);
+    public void setApplicant(Applicant target, Applicant applicant) {
+        requireAllNonNull(target, applicant);
+        Applicant editedApplicant = internPosition(applicant);
         applicantBook.setApplicant(target, editedApplicant);
+        recordChange(() -> applicantBook.setApplicant(editedApplicant, target), () ->
+                applicantBook.setApplicant(target, editedApplicant), 2);
     }
 
     @Override
@@ -248,14 +291,19 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void addApplicant(Applicant applicant) {
+    public void addApplicant(Applicant applicantToAdd) {
+        Applicant applicant = internPosition(applicantToAdd);
         applicantBook.addApplicant(applicant);
+        recordChange(() -> applicantBook.removeApplicant(applicant), () -> applicantBook.addApplicant(applicant), 1);
         updateFilteredApplicantList(PREDICATE_SHOW_ALL_APPLICANTS);
     }
 
     @Override
     public void deleteApplicant(Applicant target) {
+        int applicantIndex = applicantBook.getApplicantList().indexOf(target);
         applicantBook.removeApplicant(target);
+        recordChange(() -> applicantBook.addApplicant(applicantIndex, target), () ->
+                applicantBook.removeApplicant(target), 1);
     }
 
     @Override
@@ -264,8 +312,7 @@ public class ModelManager implements Model {
         Position position = positionBook.getPositionWithTitle(positionTitle);
         Applicant applicant = new Applicant(applicantParticulars, position);
 
-        applicantBook.addApplicant(applicant);
-        updateFilteredApplicantList(PREDICATE_SHOW_ALL_APPLICANTS);
+        addApplicant(applicant);
         return applicant;
     }
 
@@ -287,27 +334,174 @@ public class ModelManager implements Model {
         return applicantBook.hasApplicantsApplyingTo(position);
     }
 
+    @Override
+    public int countApplicantsApplyingTo(Position position) {
+        requireNonNull(position);
+        return applicantBook.countApplicantsApplyingTo(position);
+    }
+
+    @Override
+    public int countApplicantsWithStatus(Position position, ApplicationStatus applicationStatus) {
+        requireAllNonNull(position, applicationStatus);
+        return applicantBook.countApplicantsWithStatus(position, applicationStatus);
+    }
+
     @Override
     public Applicant getApplicantWithName(Name applicantName) {
         requireNonNull(applicantName);
         return applicantBook.getApplicantWithName(applicantName);
     }
 
+    @Override
+    public Set<Applicant> getApplicantsWithNameContainingAnyOf(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return getCachedApplicants(toNameQuery(keywords), () ->
+                applicantBook.getApplicantsWithNameContainingAnyOf(keywords));
+    }
+
+    @Override
+    public Map<Applicant, Integer> getApplicantsWithNameSimilarTo(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return applicantBook.getApplicantsWithNameSimilarTo(keywords);
+    }
+
+    @Override
+    public Set<Applicant> getApplicantsMatching(FilterExpression expression) {
+        requireNonNull(expression);
+        return getCachedApplicants(expression, () -> applicantBook.getApplicantsMatching(expression));
+    }
+
+    @Override
+    public QueryCacheStatistics getApplicantQueryCacheStatistics() {
+        return applicantQueryCache;
+    }
+
+    /**
+     * Returns the result of {@code query} cached at the current version of the applicant list, or computes it with
+     * {@code lookUp} and caches it if there is none.
+     */
+    private Set<Applicant> getCachedApplicants(FilterExpression query, Supplier<Set<Applicant>> lookUp) {
+        Optional<Applicant[]> cachedApplicants = applicantQueryCache.get(query, applicantVersion);
+        if (cachedApplicants.isPresent()) {
+            Set<Applicant> applicants = Collections.newSetFromMap(new IdentityHashMap<>());
+            Collections.addAll(applicants, cachedApplicants.get());
+            return applicants;
+        }
+
+        Set<Applicant> applicants = lookUp.get();
+        applicantQueryCache.put(query, applicantVersion, applicants.toArray(new Applicant[0]));
+        return applicants;
+    }
+
+    /**
+     * Returns the query matching the names containing any of {@code keywords}, in a form that does not depend on the
+     * case or order of the keywords.
+     */
+    private static FilterExpression toNameQuery(Collection<String> keywords) {
+        return new OrExpression(keywords.stream()
+                .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                .filter(keyword -> !keyword.isEmpty())
+                .distinct()
+                .sorted()
+                .map(NameFilter::new)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public void updateApplicantsWithPosition(Position positionToEdit, Position editedPosition) {
         requireAllNonNull(positionToEdit, editedPosition);
         applicantBook.updateApplicantsWithPosition(positionToEdit, editedPosition);
+        // no applicant applies to editedPosition beforehand, as position titles are unique
+        recordChange(() -> applicantBook.updateApplicantsWithPosition(editedPosition, positionToEdit), () ->
+                applicantBook.updateApplicantsWithPosition(positionToEdit, editedPosition), 2);
+    }
+
+    /**
+     * Returns {@code applicant} applying to the instance of its position held by the position book, so that all
+     * applicants of a position share one {@code Position}.
+     */
+    private Applicant internPosition(Applicant applicant) {
+        return applicant.withPosition(positionBook.intern(applicant.getApplication().getPosition()));
     }
 
     @Override
     public void updateFilteredApplicantList(Predicate<Applicant> predicate) {
         requireNonNull(predicate);
         filteredApplicants.setPredicate(predicate);
+        sortedApplicants.setComparator(null);
+        displayedApplicants.setSource(sortedApplicants);
+    }
+
+    @Override
+    public void updateFilteredApplicantList(Predicate<Applicant> predicate, Comparator<Applicant> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredApplicants.setPredicate(predicate);
+        sortedApplicants.setComparator(comparator);
+        displayedApplicants.setSource(sortedApplicants);
+    }
+
+    @Override
+    public void updateFilteredApplicantList(Predicate<Applicant> predicate, Collection<Applicant> matchingApplicants) {
+        requireAllNonNull(predicate, matchingApplicants);
+        filteredApplicants.setPredicate(predicate, applicantBook.getIndexesOf(matchingApplicants));
+        sortedApplicants.setComparator(null);
+        displayedApplicants.setSource(sortedApplicants);
+    }
+
+    @Override
+    public void updateFilteredApplicantList(Predicate<Applicant> predicate, Collection<Applicant> matchingApplicants,
+                                            Comparator<Applicant> comparator) {
+        requireAllNonNull(predicate, matchingApplicants, comparator);
+        filteredApplicants.setPredicate(predicate, applicantBook.getIndexesOf(matchingApplicants));
+        sortedApplicants.setComparator(comparator);
+        displayedApplicants.setSource(sortedApplicants);
     }
 
     @Override
     public ObservableList<Applicant> getFilteredApplicantList() {
-        return filteredApplicants;
+        return displayedApplicants;
+    }
+
+    //=========== Saved applicant views ==================================================================
+
+    /**
+     * Saves the applicants matching {@code predicate} as the view named {@code name}, replacing any view of the same
+     * name. The view is filtered from the applicant list once, and kept up to date with each change to the list.
+     */
+    @Override
+    public void saveApplicantView(String name, Predicate<Applicant> predicate) {
+        requireAllNonNull(name, predicate);
+        FilteredList<Applicant> view = new FilteredList<>(applicantBook.getApplicantList(), predicate);
+        FilteredList<Applicant> replacedView = applicantViews.put(toViewKey(name), view);
+        if (replacedView != null && displayedApplicants.getSource() == replacedView) {
+            displayedApplicants.setSource(view);
+        }
+    }
+
+    @Override
+    public boolean hasApplicantView(String name) {
+        requireNonNull(name);
+        return applicantViews.containsKey(toViewKey(name));
+    }
+
+    /**
+     * Shows the view named {@code name} as the filtered applicant list, without filtering the applicant list again.
+     * The view must exist.
+     */
+    @Override
+    public void showApplicantView(String name) {
+        requireNonNull(name);
+        FilteredList<Applicant> view = applicantViews.get(toViewKey(name));
+        checkArgument(view != null, "There is no view named " + name);
+        displayedApplicants.setSource(view);
+    }
+
+    /**
+     * Returns the key of the view named {@code name}, so that names differing only in case or spacing name the same
+     * view.
+     */
+    private static String toViewKey(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
     }
 
     //========== Rejection rates =======================================
@@ -320,28 +514,44 @@ public class ModelManager implements Model {
     @Override
     public float calculateRejectionRate(Title title) {
         Position currPosition = positionBook.getPositionWithTitle(title);
-        int total = (int) applicantBook.getApplicantList()
-                .stream()
-                .filter(applicant -> applicant.isApplyingTo(currPosition))
-                .count();
-
-        int count = (int) applicantBook.getApplicantList()
-                .stream()
-                .filter(applicant -> applicant.isApplyingTo(currPosition)
-                        && (applicant.hasApplicationStatus(ApplicationStatus.REJECTED)))
-                .count();
+        int total = applicantBook.countApplicantsApplyingTo(currPosition);
+        int count = applicantBook.countApplicantsWithStatus(currPosition, ApplicationStatus.REJECTED);
         return Calculator.calculateRejectionRate(total, count);
     }
 
     @Override
-    public Model getCopiedModel() {
-        return new ModelManager(applicantBook.getCopiedApplicantBook(),
-                positionBook.getCopiedPositionBook(), this.userPrefs, this.history);
+    public void beginBatch() {
+        applicantBook.beginBatch();
+        positionBook.beginBatch();
     }
 
+    @Override
+    public void commitBatch() {
+        positionBook.endBatch();
+        applicantBook.endBatch();
+    }
+
+    /**
+     * Records the changes made to the model since the last recorded command as the modifications of
+     * {@code command}, so that they can be undone together.
+     */
     @Override
     public void addToHistory(Command command) {
-        history.add(command);
+        pendingChanges.recordMessage(command.getMemento().getMessage());
+        history.add(pendingChanges);
+        pendingChanges = new Memento();
+    }
+
+    @Override
+    public void revertPendingChanges() {
+        Memento changes = pendingChanges;
+        pendingChanges = new Memento();
+        beginBatch();
+        try {
+            changes.undo();
+        } finally {
+            commitBatch();
+        }
     }
 
     @Override
@@ -352,18 +562,40 @@ public class ModelManager implements Model {
     @Override
     public String recoverHistory() {
         Memento memento = history.recoverHistory();
-        String message = this.resetData(memento);
-        return message;
+        beginBatch();
+        try {
+            memento.undo();
+        } finally {
+            commitBatch();
+        }
+        return memento.getMessage();
     }
 
     @Override
-    public String resetData(Memento memento) {
-        Model previousModel = memento.getModel();
-        this.setPositionBook(previousModel.getPositionBook());
-        this.setApplicantBook(previousModel.getApplicantBook());
+    public boolean hasUndoneHistory() {
+        return history.hasUndoneHistory();
+    }
+
+    @Override
+    public String redoHistory() {
+        Memento memento = history.redoHistory();
+        beginBatch();
+        try {
+            memento.redo();
+        } finally {
+            commitBatch();
+        }
         return memento.getMessage();
     }
 
+    /**
+     * Records a change that is reverted by {@code revertAction} and reapplied by {@code reapplyAction},
+     * holding {@code recordCount} applicants and positions.
+     */
+    private void recordChange(Runnable revertAction, Runnable reapplyAction, int recordCount) {
+        pendingChanges.record(new ModelChange(revertAction, reapplyAction, recordCount));
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -380,8 +612,8 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return positionBook.equals(other.positionBook)
                 && applicantBook.equals(other.applicantBook)
-                && filteredPositions.equals(other.filteredPositions)
-                && filteredApplicants.equals(other.filteredApplicants)
+                && sortedPositions.equals(other.sortedPositions)
+                && displayedApplicants.equals(other.displayedApplicants)
                 && userPrefs.equals(other.userPrefs);
     }
 }
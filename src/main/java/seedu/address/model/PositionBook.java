@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
 import javafx.collections.ObservableList;
@@ -52,10 +53,28 @@ public class PositionBook implements ReadOnlyPositionBook {
      */
     public void resetData(ReadOnlyPositionBook newData) {
         requireNonNull(newData);
-
+        if (newData instanceof PositionBook) {
+            // positions are immutable and already known to be unique, so they can be shared as they are
+            positions.setPositions(((PositionBook) newData).positions);
+            return;
+        }
         setPositions(newData.getPositionList());
     }
 
+    /**
+     * Defers change notifications of the position list until the matching {@code endBatch()}.
+     */
+    public void beginBatch() {
+        positions.beginBatch();
+    }
+
+    /**
+     * Notifies listeners of the position list of all modifications made since the outermost {@code beginBatch()}.
+     */
+    public void endBatch() {
+        positions.endBatch();
+    }
+
     //// position-level operations
     /**
      * Returns true if a position with the same identity as {@code position} exists in the position book.
@@ -65,9 +84,7 @@ public class PositionBook implements ReadOnlyPositionBook {
         return positions.contains(position);
     }
 
-    /**
-     * Returns true if a position titled {@code title} exists in the position book.
-     */
+    @Override
     public boolean hasPositionWithTitle(Title title) {
         requireNonNull(title);
         return positions.containsPositionWithTitle(title);
@@ -81,11 +98,42 @@ public class PositionBook implements ReadOnlyPositionBook {
         positions.add(p);
     }
 
+    /**
+     * Inserts a position into the position list at {@code index}.
+     * The position must not already exist in the position book.
+     */
+    public void addPosition(int index, Position p) {
+        positions.add(index, p);
+    }
+
+    @Override
     public Position getPositionWithTitle(Title title) {
         requireNonNull(title);
         return positions.getPositionWithTitle(title);
     }
 
+    /**
+     * Returns at most {@code limit} positions matching any of {@code keywords} in their title or description,
+     * from the most relevant.
+     */
+    public List<Position> searchPositions(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return positions.search(keywords, limit);
+    }
+
+    /**
+     * Returns the instance of {@code position} held by the position book, so that equal positions can be shared.
+     * Returns {@code position} itself if the position book holds no position equal to it.
+     */
+    public Position intern(Position position) {
+        requireNonNull(position);
+        if (!positions.containsPositionWithTitle(position.getTitle())) {
+            return position;
+        }
+        Position canonicalPosition = positions.getPositionWithTitle(position.getTitle());
+        return canonicalPosition.equals(position) ? canonicalPosition : position;
+    }
+
     /**
      * Replaces the given position {@code target} in the list with {@code editedPosition}.
      * {@code target} must exist in the position book.
@@ -130,11 +178,4 @@ public class PositionBook implements ReadOnlyPositionBook {
     public int hashCode() {
         return positions.hashCode();
     }
-
-    public PositionBook getCopiedPositionBook() {
-        PositionBook copiedPositionBook = new PositionBook();
-        copiedPositionBook.positions.setPositions(this.positions.getCopiedPositions());
-
-        return copiedPositionBook;
-    }
 }
@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+import seedu.address.model.position.exceptions.PositionNotFoundException;
 
 /**
  * Unmodifiable view of a position book
@@ -14,4 +16,16 @@ public interface ReadOnlyPositionBook {
      */
     ObservableList<Position> getPositionList();
 
+    /**
+     * Returns true if a position titled {@code title} exists in the position book.
+     */
+    boolean hasPositionWithTitle(Title title);
+
+    /**
+     * Returns the position titled {@code title}.
+     *
+     * @throws PositionNotFoundException If there is no such position.
+     */
+    Position getPositionWithTitle(Title title);
+
 }
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.HistorySettings;
 
 /**
  * Represents User's preferences.
@@ -14,6 +15,7 @@ import seedu.address.commons.core.GuiSettings;
 public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
+    private HistorySettings historySettings = new HistorySettings();
     private Path applicantBookFilePath = Paths.get("data" , "applicantbook.json");
     private Path positionBookFilePath = Paths.get("data", "positionbook.json");
 
@@ -36,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void resetData(ReadOnlyUserPrefs newUserPrefs) {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
+        setHistorySettings(newUserPrefs.getHistorySettings());
         setPositionBookFilePath(newUserPrefs.getPositionBookFilePath());
         setApplicantBookFilePath(newUserPrefs.getApplicantBookFilePath());
     }
@@ -50,6 +53,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    @Override
+    public HistorySettings getHistorySettings() {
+        return historySettings;
+    }
+
+    public void setHistorySettings(HistorySettings historySettings) {
+        requireNonNull(historySettings);
+        this.historySettings = historySettings;
+    }
+
     @Override
     public Path getPositionBookFilePath() {
         return positionBookFilePath;
@@ -82,19 +95,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
+                && historySettings.equals(o.historySettings)
                 && positionBookFilePath.equals(o.positionBookFilePath)
                 && applicantBookFilePath.equals(o.applicantBookFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, positionBookFilePath, applicantBookFilePath);
+        return Objects.hash(guiSettings, historySettings, positionBookFilePath, applicantBookFilePath);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
+        sb.append("\nHistory Settings : " + historySettings);
         sb.append("\nLocal data file location : " + positionBookFilePath);
         sb.append("\nLocal data file location : " + applicantBookFilePath);
         return sb.toString();
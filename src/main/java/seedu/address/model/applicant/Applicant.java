@@ -25,6 +25,9 @@ public class Applicant {
     private final Application application;
     private ProfileUrl gitHubUrl;
 
+    // computed once, as applicants are hashed and compared in every index and list operation
+    private final int hashCode;
+
     /**
      * Every field must be present and not null.
      */
@@ -42,6 +45,7 @@ public class Applicant {
         this.email = email;
         this.address = address;
         this.application = application;
+        this.hashCode = Objects.hash(name, phone, email, address, application);
     }
 
     /**
@@ -81,6 +85,7 @@ public class Applicant {
         this.address = address;
         this.application = application;
         this.gitHubUrl = gitHubUrl;
+        this.hashCode = Objects.hash(name, phone, email, address, application);
     }
 
     /**
@@ -93,6 +98,18 @@ public class Applicant {
         return new Applicant(name, phone, email, address, application.markAs(applicationStatus), gitHubUrl);
     }
 
+    /**
+     * Returns this applicant applying to {@code position} instead, with the same application status.
+     * Returns this applicant itself if it already refers to {@code position}.
+     */
+    public Applicant withPosition(Position position) {
+        requireNonNull(position);
+        if (application.getPosition() == position) {
+            return this;
+        }
+        return new Applicant(name, phone, email, address, application.withPosition(position), gitHubUrl);
+    }
+
     public Name getName() {
         return name;
     }
@@ -130,7 +147,9 @@ public class Applicant {
      */
     public boolean isApplyingTo(Position position) {
         requireNonNull(position);
-        return application.getPosition().equals(position);
+        Position positionApplyingTo = application.getPosition();
+        // applicants of a position share its instance, so most matches are found without comparing fields
+        return positionApplyingTo == position || positionApplyingTo.equals(position);
     }
 
     /**
@@ -185,7 +204,8 @@ public class Applicant {
         }
 
         Applicant otherApplicant = (Applicant) other;
-        return name.equals(otherApplicant.name)
+        return hashCode == otherApplicant.hashCode // applicants that differ in hash cannot be equal
+                && name.equals(otherApplicant.name)
                 && phone.equals(otherApplicant.phone)
                 && email.equals(otherApplicant.email)
                 && address.equals(otherApplicant.address)
@@ -195,8 +215,7 @@ public class Applicant {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, application);
+        return hashCode;
     }
 
     @Override
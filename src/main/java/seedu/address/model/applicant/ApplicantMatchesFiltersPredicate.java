@@ -8,14 +8,18 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import seedu.address.logic.descriptors.FilterApplicantDescriptor;
+import seedu.address.model.applicant.Application.ApplicationStatus;
+import seedu.address.model.position.Title;
 
 /**
  * Tests that a {@code Applicant}'s {@code Name} matches the filters specified
  * in the given {@code filterApplicantDescriptor}.
+ * The filters are read from the descriptor once, so that testing an applicant does not unwrap them again.
  */
 public class ApplicantMatchesFiltersPredicate implements Predicate<Applicant> {
 
-    private final FilterApplicantDescriptor descriptor;
+    private final Title positionTitle;
+    private final ApplicationStatus applicationStatus;
 
     /**
      * Constructor for a ApplicantMatchesFiltersPredicate object.
@@ -25,7 +29,8 @@ public class ApplicantMatchesFiltersPredicate implements Predicate<Applicant> {
     public ApplicantMatchesFiltersPredicate(FilterApplicantDescriptor descriptor) {
         requireNonNull(descriptor);
 
-        this.descriptor = descriptor;
+        this.positionTitle = descriptor.getPositionTitle().orElse(null);
+        this.applicationStatus = descriptor.getApplicationStatus().orElse(null);
     }
 
     @Override
@@ -37,8 +42,9 @@ public class ApplicantMatchesFiltersPredicate implements Predicate<Applicant> {
      * Returns true if the given Applicant passes the specified filters.
      */
     public boolean applicantMatchesFilters(Applicant applicant) {
-        return passesFilter(descriptor::getPositionTitle, applicant::isApplyingToPositionWithTitle)
-                && passesFilter(descriptor::getApplicationStatus, applicant::hasApplicationStatus);
+        // a filter that is not present is passed by default, like in passesFilter
+        return (positionTitle == null || applicant.isApplyingToPositionWithTitle(positionTitle))
+                && (applicationStatus == null || applicant.hasApplicationStatus(applicationStatus));
     }
 
     /**
@@ -18,6 +18,7 @@ import seedu.address.model.position.Title;
 public class Application {
     private final Position position;
     private final ApplicationStatus status;
+    private final int hashCode;
 
     /**
      * Constructor for a job application.
@@ -36,6 +37,7 @@ public class Application {
         requireAllNonNull(position, applicationStatus);
         this.position = position;
         this.status = applicationStatus;
+        this.hashCode = Objects.hash(position, applicationStatus);
     }
 
     /**
@@ -48,6 +50,16 @@ public class Application {
         return new Application(position, applicationStatus);
     }
 
+    /**
+     * Returns a new Application to {@code position} with the same status.
+     *
+     * @param position The new position for the application.
+     * @return Application with the updated position.
+     */
+    public Application withPosition(Position position) {
+        return new Application(position, status);
+    }
+
     /**
      * Returns a description of the application and its status.
      */
@@ -78,13 +90,14 @@ public class Application {
         }
 
         Application otherApplication = (Application) other;
-        return position.equals(otherApplication.position)
+        return hashCode == otherApplication.hashCode // applications that differ in hash cannot be equal
+                && position.equals(otherApplication.position)
                 && status.equals(otherApplication.status);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(position, status);
+        return hashCode;
     }
 
     @Override
@@ -96,7 +109,8 @@ public class Application {
     }
 
     public Application getCopiedApplication() {
-        return new Application(position.getCopiedPosition(), status);
+        // positions are immutable, so the copy shares the position instead of cloning it
+        return new Application(position, status);
     }
 
     /**
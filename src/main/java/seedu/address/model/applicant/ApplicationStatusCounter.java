@@ -0,0 +1,116 @@
+package seedu.address.model.applicant;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.applicant.Application.ApplicationStatus;
+import seedu.address.model.position.Title;
+
+/**
+ * Counts applicants by the title of the position they are applying to and their application status.
+ * The counts are updated incrementally as applicants are added and removed, so reading them takes constant time.
+ */
+public class ApplicationStatusCounter {
+
+    private final Map<Title, int[]> countsByTitle = new HashMap<>();
+
+    public ApplicationStatusCounter() {}
+
+    /**
+     * Creates an {@code ApplicationStatusCounter} by counting every applicant in {@code applicants}.
+     */
+    public ApplicationStatusCounter(Iterable<Applicant> applicants) {
+        requireNonNull(applicants);
+        applicants.forEach(this::add);
+    }
+
+    /**
+     * Counts {@code applicant} under its position title and application status.
+     */
+    public void add(Applicant applicant) {
+        requireNonNull(applicant);
+        int[] counts = countsByTitle.computeIfAbsent(applicant.getTitle(),
+                unused -> new int[ApplicationStatus.values().length]);
+        counts[applicant.getApplication().getStatus().ordinal()]++;
+    }
+
+    /**
+     * Stops counting {@code applicant}, which must have been counted before.
+     */
+    public void remove(Applicant applicant) {
+        requireNonNull(applicant);
+        int[] counts = countsByTitle.get(applicant.getTitle());
+        assert counts != null : "Removed an applicant that was never counted.";
+
+        int statusIndex = applicant.getApplication().getStatus().ordinal();
+        assert counts[statusIndex] > 0 : "Removed an applicant that was never counted.";
+        counts[statusIndex]--;
+
+        if (Arrays.stream(counts).allMatch(count -> count == 0)) {
+            countsByTitle.remove(applicant.getTitle());
+        }
+    }
+
+    /**
+     * Resets all counts to zero.
+     */
+    public void clear() {
+        countsByTitle.clear();
+    }
+
+    /**
+     * Returns the number of applicants applying to a position titled {@code title}
+     * with the given {@code applicationStatus}.
+     */
+    public int getCount(Title title, ApplicationStatus applicationStatus) {
+        requireAllNonNull(title, applicationStatus);
+        int[] counts = countsByTitle.get(title);
+        return counts == null ? 0 : counts[applicationStatus.ordinal()];
+    }
+
+    /**
+     * Returns the number of applicants applying to a position titled {@code title}.
+     */
+    public int getTotal(Title title) {
+        requireNonNull(title);
+        int[] counts = countsByTitle.get(title);
+        return counts == null ? 0 : Arrays.stream(counts).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ApplicationStatusCounter)) {
+            return false;
+        }
+
+        Map<Title, int[]> otherCountsByTitle = ((ApplicationStatusCounter) other).countsByTitle;
+        return countsByTitle.size() == otherCountsByTitle.size()
+                && countsByTitle.entrySet().stream().allMatch(entry ->
+                        Arrays.equals(entry.getValue(), otherCountsByTitle.get(entry.getKey())));
+    }
+
+    @Override
+    public int hashCode() {
+        return countsByTitle.entrySet().stream()
+                .mapToInt(entry -> entry.getKey().hashCode() ^ Arrays.hashCode(entry.getValue()))
+                .sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        countsByTitle.forEach((title, counts) -> builder.append(title)
+                .append(": ")
+                .append(Arrays.toString(counts))
+                .append("; "));
+        return builder.toString();
+    }
+}
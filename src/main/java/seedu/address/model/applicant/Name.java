@@ -3,6 +3,8 @@ package seedu.address.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents an Applicant's name in MrTechRecruiter.
  * Equality checks use case-insensitive comparisons.
@@ -21,6 +23,9 @@ public class Name {
 
     public final String fullName;
 
+    // computed once, as names are hashed on every lookup in the applicant list's name index
+    private final int hashCode;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -30,6 +35,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        hashCode = name.toLowerCase(Locale.ROOT).hashCode();
     }
 
     /**
@@ -57,12 +63,13 @@ public class Name {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Name // instanceof handles nulls
+                && hashCode == ((Name) other).hashCode // names that differ in hash cannot be equal
                 && fullName.equalsIgnoreCase(((Name) other).fullName)); // state check
     }
 
     @Override
     public int hashCode() {
-        return fullName.toLowerCase().hashCode();
+        return hashCode;
     }
 
     public Name getCopiedName() {
@@ -16,6 +16,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Applicant> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Applicant applicant) {
         return keywords.stream()
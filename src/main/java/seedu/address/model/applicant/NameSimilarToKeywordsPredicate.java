@@ -0,0 +1,67 @@
+package seedu.address.model.applicant;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Tests that a {@code Applicant}'s {@code Name} has a word within a few typos of any of the keywords given.
+ * Keyword matching is case-insensitive.
+ */
+public class NameSimilarToKeywordsPredicate implements Predicate<Applicant> {
+
+    public static final int SHORT_KEYWORD_LENGTH = 4;
+
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<String> keywords;
+
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the number of typos tolerated in {@code keyword}: one for keywords of up to
+     * {@code SHORT_KEYWORD_LENGTH} characters, and two for longer keywords.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        return keyword.trim().length() <= SHORT_KEYWORD_LENGTH ? 1 : 2;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        return getEditDistance(applicant) != NO_MATCH;
+    }
+
+    /**
+     * Returns the fewest typos between a word of {@code applicant}'s name and a keyword it is similar to, or
+     * {@code NO_MATCH} if it has no such word.
+     */
+    public int getEditDistance(Applicant applicant) {
+        int minDistance = NO_MATCH;
+        for (String word : applicant.getName().fullName.toLowerCase(Locale.ROOT).split("\\s+")) {
+            for (String keyword : keywords) {
+                int maxDistance = getMaxEditDistance(keyword);
+                String preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+                int distance = StringUtil.getBoundedEditDistance(word, preppedKeyword, maxDistance);
+                if (distance <= maxDistance) {
+                    minDistance = Math.min(minDistance, distance);
+                }
+            }
+        }
+        return minDistance;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameSimilarToKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameSimilarToKeywordsPredicate) other).keywords)); // state check
+    }
+}
@@ -115,6 +115,11 @@ public class ProfileUrl {
         return this.url.equals(otherProfileUrl.url);
     }
 
+    @Override
+    public int hashCode() {
+        return url.hashCode();
+    }
+
     @Override
     public String toString() {
         return this.url;
@@ -1,20 +1,43 @@
 package seedu.address.model.applicant;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.logic.descriptors.EditApplicantDescriptor;
 import seedu.address.logic.descriptors.EditApplicationDescriptor;
+import seedu.address.model.applicant.Application.ApplicationStatus;
 import seedu.address.model.applicant.exceptions.ApplicantNotFoundException;
 import seedu.address.model.applicant.exceptions.DuplicateApplicantException;
+import seedu.address.model.applicant.filter.ApplicantIndex;
+import seedu.address.model.applicant.filter.FilterExpression;
 import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+import seedu.address.model.util.BatchableObservableList;
+import seedu.address.model.util.CompressedBitmap;
+import seedu.address.model.util.ParallelScanner;
+import seedu.address.model.util.RowIds;
+import seedu.address.model.util.TrigramIndex;
 
 /**
  * A list of applicants that enforces uniqueness between its elements and does not allow nulls.
@@ -24,22 +47,42 @@ import seedu.address.model.position.Position;
  * applicant uses Applicant#equals(Object) so as to ensure that the applicant with exactly the same fields will
  * be removed.
  *
+ * Each applicant has an id, which stays the same while it is in the list, however applicants before it are inserted
+ * or removed. Applicants are indexed by id, by {@code Name}, and their ids by each word of their name in lower case,
+ * by the {@code Title} of the position they are applying to and by their application status, so that identity
+ * lookups, keyword searches, filters and position-level operations do not need to scan the whole list. The ids are
+ * held as {@code CompressedBitmap}s, so that filters combine them a word of ids at a time. The words of names are in
+ * turn indexed by their trigrams, for typo-tolerant searches. Applicants are also counted by position title and
+ * application status, so that statistics such as rejection rates can be read in constant time.
+ * The indexes and counts are kept in sync with the backing list by every mutating operation, which only updates the
+ * entries of the applicants it adds, removes or replaces.
+ *
+ * Modifications made between {@code beginBatch()} and {@code endBatch()} reach listeners of the list as one change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Applicant#isSameApplicant(Applicant)
  */
-public class UniqueApplicantList implements Iterable<Applicant> {
+public class UniqueApplicantList implements Iterable<Applicant>, ApplicantIndex {
 
-    private final ObservableList<Applicant> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Applicant> internalList = new BatchableObservableList<>();
     private final ObservableList<Applicant> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final RowIds rowIds = new RowIds();
+    private final Map<Name, Integer> idsByName = new HashMap<>();
+    private final Map<String, CompressedBitmap> idsByNameWord = new HashMap<>();
+    private final TrigramIndex nameWordTrigrams = new TrigramIndex();
+    private final Map<Title, CompressedBitmap> idsByPositionTitle = new HashMap<>();
+    private final Map<ApplicationStatus, CompressedBitmap> idsByStatus = new EnumMap<>(ApplicationStatus.class);
+    private final ApplicationStatusCounter statusCounter = new ApplicationStatusCounter();
+    private final ParallelScanner scanner = new ParallelScanner();
 
     /**
      * Returns true if the list contains an equivalent applicant as the given argument.
      */
     public boolean contains(Applicant toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameApplicant);
+        return idsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -47,7 +90,81 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      */
     public boolean containsApplicantWithName(Name toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(applicant -> applicant.hasName(toCheck));
+        return idsByName.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the applicants in the list whose name contains any of {@code keywords} as a whole word.
+     * Ignores case, like {@code StringUtil#containsWordIgnoreCase(String, String)}.
+     */
+    public Set<Applicant> getApplicantsWithNameContainingAnyOf(Collection<String> keywords) {
+        return getApplicantsWithIds(getIdsWithNameContainingAnyOf(keywords));
+    }
+
+    @Override
+    public CompressedBitmap getIdsWithNameContainingAnyOf(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        CompressedBitmap matchingIds = new CompressedBitmap();
+        for (String keyword : keywords) {
+            CompressedBitmap idsWithWord = idsByNameWord.get(toIndexedWord(keyword));
+            if (idsWithWord != null) {
+                matchingIds = matchingIds.or(idsWithWord);
+            }
+        }
+        return matchingIds;
+    }
+
+    /**
+     * Returns the applicants in the list whose name has a word within a few typos of any of {@code keywords}, each
+     * mapped to the fewest typos among its matching words.
+     * Ignores case, like {@code NameSimilarToKeywordsPredicate}.
+     */
+    public Map<Applicant, Integer> getApplicantsWithNameSimilarTo(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Map<Applicant, Integer> matchingApplicants = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            int maxDistance = NameSimilarToKeywordsPredicate.getMaxEditDistance(keyword);
+            nameWordTrigrams.getWordsSimilarTo(toIndexedWord(keyword), maxDistance).forEach((word, distance) -> {
+                for (int id : idsByNameWord.get(word).toArray()) {
+                    matchingApplicants.merge(getApplicantWithId(id), distance, Math::min);
+                }
+            });
+        }
+        return matchingApplicants;
+    }
+
+    @Override
+    public CompressedBitmap getIdsWithPositionTitle(Title title) {
+        requireNonNull(title);
+        return idsByPositionTitle.getOrDefault(title, new CompressedBitmap());
+    }
+
+    @Override
+    public CompressedBitmap getIdsWithStatus(ApplicationStatus status) {
+        requireNonNull(status);
+        return idsByStatus.getOrDefault(status, new CompressedBitmap());
+    }
+
+    @Override
+    public Applicant getApplicantWithId(int id) {
+        return internalList.get(rowIds.getRow(id));
+    }
+
+    /**
+     * Returns the applicants in the list matching {@code expression}.
+     * The parts of {@code expression} that can be looked up in the indexes are, and only the applicants found are
+     * tested against the rest; the whole list is only tested if no part of {@code expression} can be looked up, in
+     * parallel if the list is large.
+     */
+    public Set<Applicant> getApplicantsMatching(FilterExpression expression) {
+        requireNonNull(expression);
+        Optional<CompressedBitmap> lookedUpIds = expression.lookUp(this);
+        if (lookedUpIds.isPresent()) {
+            return getApplicantsWithIds(lookedUpIds.get());
+        }
+        Set<Applicant> matchingApplicants = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingApplicants.addAll(scanner.filter(internalList, expression));
+        return matchingApplicants;
     }
 
     /**
@@ -55,7 +172,77 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      */
     public boolean hasApplicantsApplyingTo(Position position) {
         requireNonNull(position);
-        return internalList.stream().anyMatch(applicant -> applicant.isApplyingTo(position));
+        return getRowsApplyingTo(position).length > 0;
+    }
+
+    /**
+     * Returns the applicants in the list applying to {@code position}.
+     */
+    public List<Applicant> getApplicantsApplyingTo(Position position) {
+        requireNonNull(position);
+        return Arrays.stream(getRowsApplyingTo(position))
+                .mapToObj(internalList::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the indexes in the list of the applicants applying to {@code position}, in ascending order.
+     */
+    public int[] getRowsApplyingTo(Position position) {
+        requireNonNull(position);
+        return Arrays.stream(getIdsWithPositionTitle(position.getTitle()).toArray())
+                .map(rowIds::getRow)
+                .filter(row -> internalList.get(row).isApplyingTo(position))
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Returns the indexes in the list of {@code applicants}, in ascending order.
+     *
+     * @throws ApplicantNotFoundException If any of {@code applicants} is not in the list.
+     */
+    public int[] getRowsOf(Collection<Applicant> applicants) {
+        requireAllNonNull(applicants);
+        int[] rows = new int[applicants.size()];
+        int i = 0;
+        for (Applicant applicant : applicants) {
+            rows[i] = indexOf(applicant);
+            if (rows[i++] == -1) {
+                throw new ApplicantNotFoundException();
+            }
+        }
+        Arrays.sort(rows);
+        return rows;
+    }
+
+    /**
+     * Returns the index in the list of {@code applicant}, or -1 if the list does not contain it.
+     */
+    public int indexOf(Applicant applicant) {
+        requireNonNull(applicant);
+        Integer id = idsByName.get(applicant.getName());
+        if (id == null) {
+            return -1;
+        }
+        int row = rowIds.getRow(id);
+        return internalList.get(row).equals(applicant) ? row : -1;
+    }
+
+    /**
+     * Returns the number of applicants in the list applying to {@code position}.
+     */
+    public int countApplicantsApplyingTo(Position position) {
+        requireNonNull(position);
+        return statusCounter.getTotal(position.getTitle());
+    }
+
+    /**
+     * Returns the number of applicants in the list applying to {@code position} with {@code applicationStatus}.
+     */
+    public int countApplicantsWithStatus(Position position, ApplicationStatus applicationStatus) {
+        requireAllNonNull(position, applicationStatus);
+        return statusCounter.getCount(position.getTitle(), applicationStatus);
     }
 
     /**
@@ -65,10 +252,25 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      */
     public Applicant getApplicantWithName(Name name) {
         requireNonNull(name);
-        return internalList.stream()
-                .filter(applicant -> applicant.hasName(name))
-                .findFirst()
-                .orElseThrow(ApplicantNotFoundException::new);
+        Integer id = idsByName.get(name);
+        if (id == null) {
+            throw new ApplicantNotFoundException();
+        }
+        return getApplicantWithId(id);
+    }
+
+    /**
+     * Defers change notifications of the list until the matching {@code endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Notifies listeners of the list of all modifications made since the outermost {@code beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -76,11 +278,43 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      * The applicant must not already exist in the list.
      */
     public void add(Applicant toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts an applicant into the list at {@code listIndex}.
+     * The applicant must not already exist in the list.
+     */
+    public void add(int listIndex, Applicant toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateApplicantException();
         }
-        internalList.add(toAdd);
+        index(toAdd, rowIds.insert(listIndex));
+        internalList.add(listIndex, toAdd);
+    }
+
+    /**
+     * Inserts {@code applicants} into the list so that they end up at {@code listIndexes}, which must be in ascending
+     * order.
+     * The applicants must not already exist in the list. Listeners of the list are notified of the insertions as one
+     * change.
+     */
+    public void addAll(int[] listIndexes, List<Applicant> applicants) {
+        requireAllNonNull(listIndexes, applicants);
+        checkArgument(listIndexes.length == applicants.size(), "There must be one index for each applicant added");
+        Set<Name> names = new HashSet<>();
+        for (Applicant applicant : applicants) {
+            if (contains(applicant) || !names.add(applicant.getName())) {
+                throw new DuplicateApplicantException();
+            }
+        }
+
+        int[] ids = rowIds.insertAll(listIndexes);
+        for (int i = 0; i < ids.length; i++) {
+            index(applicants.get(i), ids[i]);
+        }
+        internalList.insertAll(listIndexes, applicants);
     }
 
     /**
@@ -91,7 +325,7 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     public void setApplicant(Applicant target, Applicant editedApplicant) {
         requireAllNonNull(target, editedApplicant);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ApplicantNotFoundException();
         }
@@ -100,6 +334,9 @@ public class UniqueApplicantList implements Iterable<Applicant> {
             throw new DuplicateApplicantException();
         }
 
+        int id = rowIds.getId(index);
+        unindex(target, id);
+        index(editedApplicant, id);
         internalList.set(index, editedApplicant);
     }
 
@@ -109,48 +346,96 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      */
     public void remove(Applicant toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ApplicantNotFoundException();
         }
+        unindex(internalList.get(index), rowIds.remove(index));
+        internalList.remove(index);
     }
 
     /**
      * Removes all applicants from the list matching the given condition.
+     * Listeners of the list are notified of the removals as one change.
      */
     public void removeIf(Predicate<? super Applicant> condition) {
         requireNonNull(condition);
-        internalList.removeIf(condition);
+        removeRows(IntStream.range(0, internalList.size())
+                .filter(row -> condition.test(internalList.get(row)))
+                .toArray());
+    }
+
+    /**
+     * Removes all applicants applying to {@code position} from the list.
+     * Listeners of the list are notified of the removals as one change.
+     */
+    public void removeApplicantsApplyingTo(Position position) {
+        requireNonNull(position);
+        removeRows(getRowsApplyingTo(position));
     }
 
     /**
      * Updates all applicants applying to {@code positionToEdit} with {@code editedPosition}.
+     * Updated applicants keep their places in the list.
      */
     public void updateApplicantsWithPosition(Position positionToEdit,
                                              Position editedPosition) {
-        List<Applicant> copiedList = new ArrayList<>(internalList);
+        requireAllNonNull(positionToEdit, editedPosition);
+        int[] rows = getRowsApplyingTo(positionToEdit);
+        if (rows.length == 0) {
+            return;
+        }
 
-        for (Applicant applicant : copiedList) {
-            if (!applicant.isApplyingTo(positionToEdit)) {
-                continue;
+        internalList.beginBatch();
+        try {
+            for (int row : rows) {
+                Applicant applicant = internalList.get(row);
+                EditApplicationDescriptor editApplicationDescriptor = new EditApplicationDescriptor();
+                editApplicationDescriptor.setPosition(editedPosition);
+                Application updatedApplication = editApplicationDescriptor
+                        .createEditedApplication(applicant.getApplication());
+
+                EditApplicantDescriptor editApplicantDescriptor = new EditApplicantDescriptor();
+                editApplicantDescriptor.setApplication(updatedApplication);
+                Applicant updatedApplicant = editApplicantDescriptor.createEditedApplicant(applicant);
+
+                int id = rowIds.getId(row);
+                unindex(applicant, id);
+                index(updatedApplicant, id);
+                internalList.set(row, updatedApplicant);
             }
-            EditApplicationDescriptor editApplicationDescriptor = new EditApplicationDescriptor();
-            editApplicationDescriptor.setPosition(editedPosition);
-            Application updatedApplication = editApplicationDescriptor
-                    .createEditedApplication(applicant.getApplication());
-
-            EditApplicantDescriptor editApplicantDescriptor = new EditApplicantDescriptor();
-            editApplicantDescriptor.setApplication(updatedApplication);
-            Applicant updatedApplicant = editApplicantDescriptor.createEditedApplicant(applicant);
-
-            remove(applicant);
-            add(updatedApplicant);
+        } finally {
+            internalList.endBatch();
         }
+    }
 
+    /**
+     * Makes every applicant refer to the instance returned by {@code canonicalPosition} for the position they are
+     * applying to, so that applicants of the same position share one {@code Position}.
+     * {@code canonicalPosition} must return a position equal to the one it is given.
+     */
+    public void internPositions(UnaryOperator<Position> canonicalPosition) {
+        requireNonNull(canonicalPosition);
+        internalList.beginBatch();
+        try {
+            for (int i = 0; i < internalList.size(); i++) {
+                Applicant applicant = internalList.get(i);
+                Position position = canonicalPosition.apply(applicant.getApplication().getPosition());
+                Applicant internedApplicant = applicant.withPosition(position);
+                if (internedApplicant != applicant) {
+                    // the name, position title and status are unchanged, so the indexes still hold for its id
+                    internalList.set(i, internedApplicant);
+                }
+            }
+        } finally {
+            internalList.endBatch();
+        }
     }
 
     public void setApplicants(UniqueApplicantList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -164,6 +449,7 @@ public class UniqueApplicantList implements Iterable<Applicant> {
         }
 
         internalList.setAll(applicants);
+        reindex();
     }
 
     /**
@@ -191,26 +477,124 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     }
 
     /**
-     * Returns true if {@code applicants} contains only unique applicants.
+     * Returns the application status counts of this list.
      */
-    private boolean applicantsAreUnique(List<Applicant> applicants) {
-        for (int i = 0; i < applicants.size() - 1; i++) {
-            for (int j = i + 1; j < applicants.size(); j++) {
-                if (applicants.get(i).isSameApplicant(applicants.get(j))) {
-                    return false;
-                }
+    ApplicationStatusCounter getStatusCounter() {
+        return statusCounter;
+    }
+
+    /**
+     * Rebuilds the indexes and counts from the contents of the backing list, giving each applicant its row as id.
+     */
+    private void reindex() {
+        rowIds.reset(internalList.size());
+        idsByName.clear();
+        idsByNameWord.clear();
+        nameWordTrigrams.clear();
+        idsByPositionTitle.clear();
+        idsByStatus.clear();
+        statusCounter.clear();
+        for (int row = 0; row < internalList.size(); row++) {
+            index(internalList.get(row), row);
+        }
+    }
+
+    /**
+     * Removes the applicants at {@code rows}, which must be in ascending order, from the list and the indexes.
+     */
+    private void removeRows(int[] rows) {
+        if (rows.length == 0) {
+            return;
+        }
+        for (int row : rows) {
+            unindex(internalList.get(row), rowIds.getId(row));
+        }
+        rowIds.removeAll(rows);
+        internalList.removeAll(rows);
+    }
+
+    private Set<Applicant> getApplicantsWithIds(CompressedBitmap ids) {
+        Set<Applicant> applicants = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int id : ids.toArray()) {
+            applicants.add(getApplicantWithId(id));
+        }
+        return applicants;
+    }
+
+    /**
+     * Adds {@code applicant}, with {@code id}, to the indexes and counts.
+     */
+    private void index(Applicant applicant, int id) {
+        idsByName.put(applicant.getName(), id);
+        statusCounter.add(applicant);
+        for (String word : getIndexedWords(applicant.getName())) {
+            idsByNameWord.computeIfAbsent(word, unused -> {
+                nameWordTrigrams.add(word);
+                return new CompressedBitmap();
+            }).add(id);
+        }
+        idsByPositionTitle.computeIfAbsent(applicant.getTitle(), unused -> new CompressedBitmap()).add(id);
+        idsByStatus.computeIfAbsent(applicant.getApplication().getStatus(), unused -> new CompressedBitmap()).add(id);
+    }
+
+    /**
+     * Removes {@code applicant}, with {@code id}, from the indexes and counts.
+     */
+    private void unindex(Applicant applicant, int id) {
+        idsByName.remove(applicant.getName());
+        statusCounter.remove(applicant);
+        for (String word : getIndexedWords(applicant.getName())) {
+            if (removeId(idsByNameWord, word, id)) {
+                nameWordTrigrams.remove(word);
             }
         }
+        removeId(idsByPositionTitle, applicant.getTitle(), id);
+        removeId(idsByStatus, applicant.getApplication().getStatus(), id);
+    }
+
+    /**
+     * Removes {@code id} from the ids indexed under {@code key} in {@code index}, and returns true if no ids are
+     * left under {@code key}, which is then removed.
+     */
+    private static <K> boolean removeId(Map<K, CompressedBitmap> index, K key, int id) {
+        CompressedBitmap ids = index.get(key);
+        if (ids == null) {
+            return false;
+        }
+        ids.remove(id);
+        if (!ids.isEmpty()) {
+            return false;
+        }
+        index.remove(key);
         return true;
     }
 
-    public UniqueApplicantList getCopiedApplicants() {
-        UniqueApplicantList copiedApplicants = new UniqueApplicantList();
+    /**
+     * Returns the distinct words of {@code name}, in the form they are indexed by.
+     */
+    private static Set<String> getIndexedWords(Name name) {
+        Set<String> words = new HashSet<>();
+        Arrays.stream(name.fullName.split("\\s+")).map(UniqueApplicantList::toIndexedWord).forEach(words::add);
+        return words;
+    }
 
-        for (Applicant applicant : this.internalList) {
-            copiedApplicants.internalList.add(applicant.getCopiedApplicant());
-        }
+    /**
+     * Returns {@code word} in the form words of names are indexed by.
+     */
+    private static String toIndexedWord(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
 
-        return copiedApplicants;
+    /**
+     * Returns true if {@code applicants} contains only unique applicants.
+     */
+    private boolean applicantsAreUnique(List<Applicant> applicants) {
+        Set<Name> names = new HashSet<>();
+        for (Applicant applicant : applicants) {
+            if (!names.add(applicant.getName())) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,45 @@
+package seedu.address.model.applicant.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * Tests that the {@code Address} of an {@code Applicant} contains the given keyword as a whole word, ignoring case.
+ * Addresses are not indexed, so this filter is always tested applicant by applicant.
+ */
+public class AddressFilter implements FilterExpression {
+
+    private final String keyword;
+
+    /**
+     * Creates an AddressFilter matching the applicants whose address contains the single word {@code keyword}.
+     */
+    public AddressFilter(String keyword) {
+        requireNonNull(keyword);
+        this.keyword = keyword;
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        return StringUtil.containsWordIgnoreCase(applicant.getAddress().value, keyword);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressFilter // instanceof handles nulls
+                && keyword.equalsIgnoreCase(((AddressFilter) other).keyword)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keyword.toLowerCase().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Address: " + keyword;
+    }
+}
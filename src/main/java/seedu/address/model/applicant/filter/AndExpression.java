@@ -0,0 +1,110 @@
+package seedu.address.model.applicant.filter;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.position.Title;
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * Tests that an {@code Applicant} matches all of the given expressions.
+ * An expression with no operands matches every applicant.
+ */
+public class AndExpression implements FilterExpression {
+
+    private final List<FilterExpression> operands;
+
+    /**
+     * Creates an AndExpression matching the applicants that match all of {@code operands}.
+     */
+    public AndExpression(List<FilterExpression> operands) {
+        requireAllNonNull(operands);
+        this.operands = operands;
+    }
+
+    public List<FilterExpression> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        for (FilterExpression operand : operands) {
+            if (!operand.test(applicant)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Intersects the ids of the operands that can be looked up, from the smallest bitmap, and tests only the
+     * applicants in the intersection against the other operands.
+     * Cannot be looked up if none of the operands can.
+     */
+    @Override
+    public Optional<CompressedBitmap> lookUp(ApplicantIndex index) {
+        List<CompressedBitmap> lookedUpOperands = new ArrayList<>();
+        List<FilterExpression> testedOperands = new ArrayList<>();
+        for (FilterExpression operand : operands) {
+            Optional<CompressedBitmap> matchingIds = operand.lookUp(index);
+            if (matchingIds.isPresent()) {
+                lookedUpOperands.add(matchingIds.get());
+            } else {
+                testedOperands.add(operand);
+            }
+        }
+        if (lookedUpOperands.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lookedUpOperands.sort(Comparator.comparingInt(CompressedBitmap::getCardinality));
+        CompressedBitmap intersection = lookedUpOperands.get(0);
+        for (CompressedBitmap ids : lookedUpOperands.subList(1, lookedUpOperands.size())) {
+            intersection = intersection.and(ids);
+        }
+        if (testedOperands.isEmpty()) {
+            return Optional.of(intersection);
+        }
+
+        CompressedBitmap matchingIds = new CompressedBitmap();
+        for (int id : intersection.toArray()) {
+            Applicant applicant = index.getApplicantWithId(id);
+            if (testedOperands.stream().allMatch(operand -> operand.test(applicant))) {
+                matchingIds.add(id);
+            }
+        }
+        return Optional.of(matchingIds);
+    }
+
+    @Override
+    public List<Title> getPositionTitles() {
+        return operands.stream()
+                .flatMap(operand -> operand.getPositionTitles().stream())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndExpression // instanceof handles nulls
+                && operands.equals(((AndExpression) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream()
+                .map(operand -> operand.isDisjunction() ? "(" + operand + ")" : operand.toString())
+                .collect(Collectors.joining(" AND "));
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.model.applicant.filter;
+
+import java.util.Collection;
+
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Application.ApplicationStatus;
+import seedu.address.model.position.Title;
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * The indexes of a list of applicants that filter expressions can be looked up in.
+ * Applicants are identified by an id, which stays the same while they are in the list. The returned bitmaps of ids
+ * must not be modified.
+ */
+public interface ApplicantIndex {
+
+    /**
+     * Returns the ids of the applicants applying to a position titled {@code title}.
+     */
+    CompressedBitmap getIdsWithPositionTitle(Title title);
+
+    /**
+     * Returns the ids of the applicants whose application has {@code status}.
+     */
+    CompressedBitmap getIdsWithStatus(ApplicationStatus status);
+
+    /**
+     * Returns the ids of the applicants whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    CompressedBitmap getIdsWithNameContainingAnyOf(Collection<String> keywords);
+
+    /**
+     * Returns the applicant with {@code id}.
+     */
+    Applicant getApplicantWithId(int id);
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.applicant.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * Tests that the {@code Email} of an {@code Applicant} is in the given domain, ignoring case.
+ * Emails are not indexed, so this filter is always tested applicant by applicant.
+ */
+public class EmailDomainFilter implements FilterExpression {
+
+    private final String domain;
+
+    /**
+     * Creates an EmailDomainFilter matching the applicants whose email is in {@code domain}, such as
+     * {@code example.com}.
+     */
+    public EmailDomainFilter(String domain) {
+        requireNonNull(domain);
+        this.domain = domain;
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        String email = applicant.getEmail().value;
+        return email.substring(email.lastIndexOf('@') + 1).equalsIgnoreCase(domain);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EmailDomainFilter // instanceof handles nulls
+                && domain.equalsIgnoreCase(((EmailDomainFilter) other).domain)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return domain.toLowerCase().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Email domain: " + domain;
+    }
+}
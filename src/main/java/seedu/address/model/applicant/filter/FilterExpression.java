@@ -0,0 +1,42 @@
+package seedu.address.model.applicant.filter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.position.Title;
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * A node of a filter expression, which tests whether an {@code Applicant} matches the filters of the expression.
+ * An expression is evaluated by looking up as much of it as possible in an {@code ApplicantIndex}, combining the
+ * bitmaps of ids found, and testing the applicants found against the rest of it, so that only the parts of the
+ * expression that are not indexed are tested applicant by applicant.
+ */
+public interface FilterExpression extends Predicate<Applicant> {
+
+    /**
+     * Returns the ids of the applicants in {@code index} matching this expression, or an empty {@code Optional} if
+     * this expression cannot be answered from the indexes alone, in which case each applicant must be tested.
+     * The returned bitmap must not be modified.
+     */
+    default Optional<CompressedBitmap> lookUp(ApplicantIndex index) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the position titles filtered by in this expression.
+     */
+    default List<Title> getPositionTitles() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns true if this expression must be parenthesised when it is an operand of {@code AND} or {@code NOT}.
+     */
+    default boolean isDisjunction() {
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.applicant.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * Tests that the {@code Name} of an {@code Applicant} contains the given keyword as a whole word, ignoring case.
+ */
+public class NameFilter implements FilterExpression {
+
+    private final String keyword;
+
+    /**
+     * Creates a NameFilter matching the applicants whose name contains the single word {@code keyword}.
+     */
+    public NameFilter(String keyword) {
+        requireNonNull(keyword);
+        this.keyword = keyword;
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        return StringUtil.containsWordIgnoreCase(applicant.getName().fullName, keyword);
+    }
+
+    @Override
+    public Optional<CompressedBitmap> lookUp(ApplicantIndex index) {
+        return Optional.of(index.getIdsWithNameContainingAnyOf(Collections.singletonList(keyword)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameFilter // instanceof handles nulls
+                && keyword.equalsIgnoreCase(((NameFilter) other).keyword)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keyword.toLowerCase().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Name: " + keyword;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.applicant.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.position.Title;
+
+/**
+ * Tests that an {@code Applicant} does not match the given expression.
+ * The complement of a looked up set would hold most of the applicants, so a negation is always tested applicant by
+ * applicant, which is cheap when it is combined with other operands that can be looked up.
+ */
+public class NotExpression implements FilterExpression {
+
+    private final FilterExpression operand;
+
+    /**
+     * Creates a NotExpression matching the applicants that do not match {@code operand}.
+     */
+    public NotExpression(FilterExpression operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        return !operand.test(applicant);
+    }
+
+    @Override
+    public List<Title> getPositionTitles() {
+        return operand.getPositionTitles();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotExpression // instanceof handles nulls
+                && operand.equals(((NotExpression) other).operand)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + (operand.isDisjunction() || operand instanceof AndExpression
+                ? "(" + operand + ")"
+                : operand.toString());
+    }
+}
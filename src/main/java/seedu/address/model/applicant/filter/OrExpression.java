@@ -0,0 +1,83 @@
+package seedu.address.model.applicant.filter;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.position.Title;
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * Tests that an {@code Applicant} matches any of the given expressions.
+ */
+public class OrExpression implements FilterExpression {
+
+    private final List<FilterExpression> operands;
+
+    /**
+     * Creates an OrExpression matching the applicants that match any of {@code operands}.
+     */
+    public OrExpression(List<FilterExpression> operands) {
+        requireAllNonNull(operands);
+        this.operands = operands;
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        for (FilterExpression operand : operands) {
+            if (operand.test(applicant)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Unites the ids of the operands.
+     * Cannot be looked up if any of the operands cannot, as every applicant must then be tested anyway.
+     */
+    @Override
+    public Optional<CompressedBitmap> lookUp(ApplicantIndex index) {
+        CompressedBitmap matchingIds = new CompressedBitmap();
+        for (FilterExpression operand : operands) {
+            Optional<CompressedBitmap> operandIds = operand.lookUp(index);
+            if (operandIds.isEmpty()) {
+                return Optional.empty();
+            }
+            matchingIds = matchingIds.or(operandIds.get());
+        }
+        return Optional.of(matchingIds);
+    }
+
+    @Override
+    public List<Title> getPositionTitles() {
+        return operands.stream()
+                .flatMap(operand -> operand.getPositionTitles().stream())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isDisjunction() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrExpression // instanceof handles nulls
+                && operands.equals(((OrExpression) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(FilterExpression::toString).collect(Collectors.joining(" OR "));
+    }
+}
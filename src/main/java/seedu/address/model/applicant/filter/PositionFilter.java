@@ -0,0 +1,63 @@
+package seedu.address.model.applicant.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.position.Title;
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * Tests that an {@code Applicant} is applying to the position with the given {@code Title}.
+ */
+public class PositionFilter implements FilterExpression {
+
+    private final Title title;
+
+    /**
+     * Creates a PositionFilter matching the applicants to the position titled {@code title}.
+     */
+    public PositionFilter(Title title) {
+        requireNonNull(title);
+        this.title = title;
+    }
+
+    public Title getTitle() {
+        return title;
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        return applicant.isApplyingToPositionWithTitle(title);
+    }
+
+    @Override
+    public Optional<CompressedBitmap> lookUp(ApplicantIndex index) {
+        return Optional.of(index.getIdsWithPositionTitle(title));
+    }
+
+    @Override
+    public List<Title> getPositionTitles() {
+        return Collections.singletonList(title);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PositionFilter // instanceof handles nulls
+                && title.equals(((PositionFilter) other).title)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return title.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Position: " + title;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.applicant.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Application.ApplicationStatus;
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * Tests that the application of an {@code Applicant} has the given {@code ApplicationStatus}.
+ */
+public class StatusFilter implements FilterExpression {
+
+    private final ApplicationStatus status;
+
+    /**
+     * Creates a StatusFilter matching the applicants whose application has {@code status}.
+     */
+    public StatusFilter(ApplicationStatus status) {
+        requireNonNull(status);
+        this.status = status;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        return applicant.hasApplicationStatus(status);
+    }
+
+    @Override
+    public Optional<CompressedBitmap> lookUp(ApplicantIndex index) {
+        return Optional.of(index.getIdsWithStatus(status));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatusFilter // instanceof handles nulls
+                && status.equals(((StatusFilter) other).status)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return status.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Status: " + status;
+    }
+}
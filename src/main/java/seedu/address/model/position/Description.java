@@ -49,6 +49,11 @@ public class Description {
                 && description.equals(((Description) other).description)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return description.hashCode();
+    }
+
     public Description getCopiedDescription() {
         return new Description(description);
     }
@@ -16,6 +16,9 @@ public class Position {
 
     private final Description description;
 
+    // computed once, as positions are compared against every applicant's position in position-level scans
+    private final int hashCode;
+
     /**
      * Every field must be present and not null.
      */
@@ -23,6 +26,7 @@ public class Position {
         requireAllNonNull(title, description);
         this.title = title;
         this.description = description;
+        this.hashCode = Objects.hash(title, description);
     }
 
     /**
@@ -69,14 +73,14 @@ public class Position {
         }
 
         Position otherPosition = (Position) other;
-        return otherPosition.getTitle().equals(getTitle())
+        return hashCode == otherPosition.hashCode // positions that differ in hash cannot be equal
+                && otherPosition.getTitle().equals(getTitle())
                 && otherPosition.getDescription().equals(getDescription());
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing
-        return Objects.hash(title, description);
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,153 @@
+package seedu.address.model.position;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A full-text index over the titles and descriptions of positions, which ranks positions against a query using the
+ * Okapi BM25 scoring function.
+ * Each word of a title counts {@code TITLE_WEIGHT} times, so that positions named after a query word rank above
+ * positions that only mention it in their description.
+ * The index is updated one position at a time, so that it can be kept in sync with a list of positions cheaply.
+ */
+public class PositionSearchIndex {
+    public static final int TITLE_WEIGHT = 2;
+
+    /** Controls how quickly repeated occurrences of a word stop raising the score. */
+    private static final double TERM_FREQUENCY_SATURATION = 1.2;
+    /** Controls how strongly long positions are penalised relative to the average position. */
+    private static final double LENGTH_NORMALISATION = 0.75;
+
+    private final Map<String, Map<Position, Integer>> termFrequenciesByWord = new HashMap<>();
+    private final Map<Position, Integer> lengths = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Adds {@code position} to the index.
+     * {@code position} must not already be in the index.
+     */
+    public void add(Position position) {
+        requireNonNull(position);
+        Map<String, Integer> termFrequencies = getTermFrequencies(position);
+        termFrequencies.forEach((word, frequency) ->
+                termFrequenciesByWord.computeIfAbsent(word, unused -> new HashMap<>()).put(position, frequency));
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        lengths.put(position, length);
+        totalLength += length;
+    }
+
+    /**
+     * Removes {@code position} from the index.
+     * {@code position} must be in the index.
+     */
+    public void remove(Position position) {
+        requireNonNull(position);
+        for (String word : getTermFrequencies(position).keySet()) {
+            Map<Position, Integer> postings = termFrequenciesByWord.get(word);
+            postings.remove(position);
+            if (postings.isEmpty()) {
+                termFrequenciesByWord.remove(word);
+            }
+        }
+        totalLength -= lengths.remove(position);
+    }
+
+    /**
+     * Removes all positions from the index.
+     */
+    public void clear() {
+        termFrequenciesByWord.clear();
+        lengths.clear();
+        totalLength = 0;
+    }
+
+    /**
+     * Returns the positions matching any of {@code keywords}, each mapped to its relevance score.
+     * Only the positions containing a keyword are scored.
+     */
+    public Map<Position, Double> score(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Map<Position, Double> scores = new HashMap<>();
+        if (lengths.isEmpty()) {
+            return scores;
+        }
+
+        double averageLength = (double) totalLength / lengths.size();
+        for (String word : keywords.stream().flatMap(PositionSearchIndex::tokenize).distinct()
+                .collect(Collectors.toList())) {
+            Map<Position, Integer> postings = termFrequenciesByWord.get(word);
+            if (postings == null) {
+                continue;
+            }
+
+            double inverseDocumentFrequency = Math.log(1 + (lengths.size() - postings.size() + 0.5)
+                    / (postings.size() + 0.5));
+            postings.forEach((position, frequency) -> {
+                double lengthRatio = lengths.get(position) / averageLength;
+                double saturatedFrequency = frequency * (TERM_FREQUENCY_SATURATION + 1)
+                        / (frequency + TERM_FREQUENCY_SATURATION
+                        * (1 - LENGTH_NORMALISATION + LENGTH_NORMALISATION * lengthRatio));
+                scores.merge(position, inverseDocumentFrequency * saturatedFrequency, Double::sum);
+            });
+        }
+        return scores;
+    }
+
+    /**
+     * Returns at most {@code limit} positions matching any of {@code keywords}, from the most relevant.
+     * Positions with equal scores are ordered by title.
+     */
+    public List<Position> search(Collection<String> keywords, int limit) {
+        checkArgument(limit > 0, "Limit must be positive");
+        Map<Position, Double> scores = score(keywords);
+        Comparator<Position> byRelevance = Comparator.<Position>comparingDouble(scores::get).reversed()
+                .thenComparing(position -> position.getTitle().fullTitle);
+
+        // keeps only the best positions seen so far, with the least relevant of them at the head
+        PriorityQueue<Position> bestPositions = new PriorityQueue<>(byRelevance.reversed());
+        for (Position position : scores.keySet()) {
+            bestPositions.add(position);
+            if (bestPositions.size() > limit) {
+                bestPositions.poll();
+            }
+        }
+
+        List<Position> matchingPositions = new ArrayList<>(bestPositions);
+        matchingPositions.sort(byRelevance);
+        return matchingPositions;
+    }
+
+    /**
+     * Returns the number of times each word occurs in the title and description of {@code position}, counting words
+     * of the title {@code TITLE_WEIGHT} times.
+     */
+    private static Map<String, Integer> getTermFrequencies(Position position) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        tokenize(position.getTitle().fullTitle)
+                .forEach(word -> termFrequencies.merge(word, TITLE_WEIGHT, Integer::sum));
+        tokenize(position.getDescription().description)
+                .forEach(word -> termFrequencies.merge(word, 1, Integer::sum));
+        return termFrequencies;
+    }
+
+    /**
+     * Splits {@code text} into lower-case words, ignoring punctuation.
+     */
+    private static Stream<String> tokenize(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty());
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.position;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Position's title in the position book.
  * Equality checks use case-insensitive comparisons.
@@ -21,6 +23,9 @@ public class Title {
 
     public final String fullTitle;
 
+    // computed once, as titles are hashed on every lookup in the title indexes
+    private final int hashCode;
+
     /**
      * Constructs a {@code title}.
      *
@@ -30,6 +35,7 @@ public class Title {
         requireNonNull(title);
         checkArgument(isValidTitle(title), MESSAGE_CONSTRAINTS);
         fullTitle = title;
+        hashCode = title.toLowerCase(Locale.ROOT).hashCode();
     }
 
     /**
@@ -48,12 +54,13 @@ public class Title {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Title // instanceof handles nulls
+                && hashCode == ((Title) other).hashCode // titles that differ in hash cannot be equal
                 && fullTitle.equalsIgnoreCase(((Title) other).fullTitle)); // state check
     }
 
     @Override
     public int hashCode() {
-        return fullTitle.toLowerCase().hashCode();
+        return hashCode;
     }
 
     public Title getCopiedTitle() {
@@ -3,13 +3,19 @@ package seedu.address.model.position;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.position.exceptions.DuplicatePositionException;
 import seedu.address.model.position.exceptions.PositionNotFoundException;
+import seedu.address.model.util.BatchableObservableList;
 
 /**
  * A list of positions that enforces uniqueness between its elements and does not allow nulls.
@@ -20,21 +26,30 @@ import seedu.address.model.position.exceptions.PositionNotFoundException;
  * However, the removal of a position uses Position#equals(Object) so
  * as to ensure that the position with exactly the same fields will be removed.
  *
+ * Positions are also indexed by {@code Title}, so that title lookups do not need to scan the whole list, and by the
+ * words of their title and description in a {@code PositionSearchIndex}, so that keyword searches are ranked without
+ * scanning the whole list either.
+ * The indexes are kept in sync with the backing list by every mutating operation.
+ *
+ * Modifications made between {@code beginBatch()} and {@code endBatch()} reach listeners of the list as one change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Position#isSamePosition(Position)
  */
 public class UniquePositionList implements Iterable<Position> {
-    private final ObservableList<Position> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Position> internalList = new BatchableObservableList<>();
     private final ObservableList<Position> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Title, Position> positionsByTitle = new HashMap<>();
+    private final PositionSearchIndex searchIndex = new PositionSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent position as the given argument.
      */
     public boolean contains(Position toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePosition);
+        return positionsByTitle.containsKey(toCheck.getTitle());
     }
 
     /**
@@ -42,7 +57,21 @@ public class UniquePositionList implements Iterable<Position> {
      */
     public boolean containsPositionWithTitle(Title toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(position -> position.getTitle().equals(toCheck));
+        return positionsByTitle.containsKey(toCheck);
+    }
+
+    /**
+     * Defers change notifications of the list until the matching {@code endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Notifies listeners of the list of all modifications made since the outermost {@code beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -50,11 +79,21 @@ public class UniquePositionList implements Iterable<Position> {
      * The position must not already exist in the list.
      */
     public void add(Position toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a position into the list at {@code index}.
+     * The position must not already exist in the list.
+     */
+    public void add(int index, Position toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePositionException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        positionsByTitle.put(toAdd.getTitle(), toAdd);
+        searchIndex.add(toAdd);
     }
 
     /**
@@ -64,10 +103,11 @@ public class UniquePositionList implements Iterable<Position> {
      */
     public Position getPositionWithTitle(Title title) {
         requireNonNull(title);
-        return internalList.stream()
-                .filter(position -> position.getTitle().equals(title))
-                .findFirst()
-                .orElseThrow(PositionNotFoundException::new);
+        Position position = positionsByTitle.get(title);
+        if (position == null) {
+            throw new PositionNotFoundException();
+        }
+        return position;
     }
 
     /**
@@ -88,6 +128,10 @@ public class UniquePositionList implements Iterable<Position> {
         }
 
         internalList.set(index, editedPosition);
+        positionsByTitle.remove(target.getTitle());
+        positionsByTitle.put(editedPosition.getTitle(), editedPosition);
+        searchIndex.remove(target);
+        searchIndex.add(editedPosition);
     }
 
     /**
@@ -99,11 +143,23 @@ public class UniquePositionList implements Iterable<Position> {
         if (!internalList.remove(toRemove)) {
             throw new PositionNotFoundException();
         }
+        positionsByTitle.remove(toRemove.getTitle());
+        searchIndex.remove(toRemove);
+    }
+
+    /**
+     * Returns at most {@code limit} positions in the list matching any of {@code keywords} in their title or
+     * description, from the most relevant.
+     */
+    public List<Position> search(Collection<String> keywords, int limit) {
+        requireAllNonNull(keywords);
+        return searchIndex.search(keywords, limit);
     }
 
     public void setPositions(UniquePositionList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -117,6 +173,7 @@ public class UniquePositionList implements Iterable<Position> {
         }
 
         internalList.setAll(positions);
+        reindex();
     }
 
     /**
@@ -143,26 +200,28 @@ public class UniquePositionList implements Iterable<Position> {
         return internalList.hashCode();
     }
 
+    /**
+     * Rebuilds the title and search indexes from the contents of the backing list.
+     */
+    private void reindex() {
+        positionsByTitle.clear();
+        searchIndex.clear();
+        internalList.forEach(position -> {
+            positionsByTitle.put(position.getTitle(), position);
+            searchIndex.add(position);
+        });
+    }
+
     /**
      * Returns true if {@code positions} contains only unique positions.
      */
     private boolean positionsAreUnique(List<Position> positions) {
-        for (int i = 0; i < positions.size() - 1; i++) {
-            for (int j = i + 1; j < positions.size(); j++) {
-                if (positions.get(i).isSamePosition(positions.get(j))) {
-                    return false;
-                }
+        Set<Title> titles = new HashSet<>();
+        for (Position position : positions) {
+            if (!titles.add(position.getTitle())) {
+                return false;
             }
         }
         return true;
     }
-
-    public UniquePositionList getCopiedPositions() {
-        UniquePositionList copiedPositions = new UniquePositionList();
-        for (Position position : internalList) {
-            copiedPositions.internalList.add(position.getCopiedPosition());
-        }
-
-        return copiedPositions;
-    }
 }
@@ -0,0 +1,174 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList}, whose change notifications can be deferred so that
+ * a batch of modifications reaches its listeners as a single change.
+ * Outside of a batch, it behaves like the list returned by {@code FXCollections.observableArrayList()}, except that
+ * inserting or removing several elements at once moves the other elements once, rather than once per element.
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Defers change notifications until the matching {@link #endBatch()}.
+     * Batches can be nested, in which case listeners are notified when the outermost batch ends.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the innermost batch started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        beginChange();
+        try {
+            List<E> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(col);
+            nextReplace(0, elements.size(), removed);
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Inserts {@code toInsert} so that its elements end up at {@code indexes}, which must be in ascending order, as a
+     * single change.
+     * The elements after the first inserted are moved once, however many elements are inserted.
+     */
+    public void insertAll(int[] indexes, List<? extends E> toInsert) {
+        requireAllNonNull(indexes, toInsert);
+        checkArgument(indexes.length == toInsert.size(), "There must be one index for each element inserted");
+        if (indexes.length == 0) {
+            return;
+        }
+        int newSize = elements.size() + indexes.length;
+        Objects.checkIndex(indexes[0], newSize);
+        Objects.checkIndex(indexes[indexes.length - 1], newSize);
+
+        int readIndex = elements.size() - 1;
+        elements.addAll(Collections.nCopies(indexes.length, null));
+        int insertedIndex = indexes.length - 1;
+        for (int writeIndex = newSize - 1; insertedIndex >= 0; writeIndex--) {
+            if (indexes[insertedIndex] == writeIndex) {
+                elements.set(writeIndex, toInsert.get(insertedIndex--));
+            } else {
+                elements.set(writeIndex, elements.get(readIndex--));
+            }
+        }
+        modCount++;
+
+        beginChange();
+        try {
+            for (int index : indexes) {
+                nextAdd(index, index + 1);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the elements at {@code indexes}, which must be in ascending order, as a single change.
+     * The elements after the first removed are moved once, however many elements are removed.
+     */
+    public void removeAll(int[] indexes) {
+        requireNonNull(indexes);
+        if (indexes.length == 0) {
+            return;
+        }
+        Objects.checkIndex(indexes[0], elements.size());
+        Objects.checkIndex(indexes[indexes.length - 1], elements.size());
+
+        List<E> removed = new ArrayList<>(indexes.length);
+        int writeIndex = indexes[0];
+        int removedIndex = 0;
+        for (int readIndex = indexes[0]; readIndex < elements.size(); readIndex++) {
+            if (removedIndex < indexes.length && indexes[removedIndex] == readIndex) {
+                removed.add(elements.get(readIndex));
+                removedIndex++;
+            } else {
+                elements.set(writeIndex++, elements.get(readIndex));
+            }
+        }
+        elements.subList(writeIndex, elements.size()).clear();
+        modCount++;
+
+        beginChange();
+        try {
+            // each element is removed from where it is once the elements removed before it are gone
+            for (int i = 0; i < indexes.length; i++) {
+                nextRemove(indexes[i] - i, removed.get(i));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        requireNonNull(filter);
+        int[] indexes = IntStream.range(0, elements.size()).filter(i -> filter.test(elements.get(i))).toArray();
+        removeAll(indexes);
+        return indexes.length > 0;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        requireNonNull(collection);
+        return removeIf(collection::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        requireNonNull(collection);
+        return removeIf(element -> !collection.contains(element));
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
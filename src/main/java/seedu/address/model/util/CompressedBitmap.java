@@ -0,0 +1,454 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * A set of non-negative ints, such as the rows of a table, stored as a Roaring-style compressed bitmap.
+ * The values are split into chunks of {@code CHUNK_SIZE} consecutive values. A chunk holding few values stores
+ * them as a sorted array, and a chunk holding many values stores them as a bitmap, so that sparse sets stay small
+ * and dense sets are intersected a word of 64 values at a time.
+ */
+public class CompressedBitmap {
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int BITMAP_WORDS = CHUNK_SIZE / Long.SIZE;
+    /** Chunks holding more values than this take less space as a bitmap than as an array. */
+    private static final int MAX_ARRAY_CARDINALITY = 4096;
+
+    private int[] keys = new int[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int chunkCount;
+
+    /**
+     * Adds {@code value} to the bitmap.
+     * Adding values in ascending order only ever appends to the last chunk.
+     */
+    public void add(int value) {
+        checkArgument(value >= 0, "Value must not be negative");
+        int key = value >>> CHUNK_BITS;
+        int index = findChunk(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, key, new ArrayChunk());
+        }
+        chunks[index] = chunks[index].add((char) value);
+    }
+
+    /**
+     * Removes {@code value} from the bitmap, if it is there.
+     */
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int index = findChunk(value >>> CHUNK_BITS);
+        if (index < 0) {
+            return;
+        }
+        chunks[index] = chunks[index].remove((char) value);
+        if (chunks[index].cardinality == 0) {
+            removeChunk(index);
+        }
+    }
+
+    /**
+     * Returns true if the bitmap contains {@code value}.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = findChunk(value >>> CHUNK_BITS);
+        return index >= 0 && chunks[index].contains((char) value);
+    }
+
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Returns the number of values in the bitmap.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            cardinality += chunks[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns a new bitmap holding the values in both this bitmap and {@code other}.
+     * Only the chunks present in both bitmaps are intersected.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        requireNonNull(other);
+        CompressedBitmap intersection = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Chunk chunk = chunks[i].and(other.chunks[j]);
+                if (chunk.cardinality > 0) {
+                    intersection.insertChunk(intersection.chunkCount, keys[i], chunk);
+                }
+                i++;
+                j++;
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns a new bitmap holding the values in either this bitmap or {@code other}.
+     * Chunks present in only one bitmap are copied whole.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        requireNonNull(other);
+        CompressedBitmap union = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j == other.chunkCount || (i < chunkCount && keys[i] < other.keys[j])) {
+                union.insertChunk(union.chunkCount, keys[i], chunks[i].copy());
+                i++;
+            } else if (i == chunkCount || keys[i] > other.keys[j]) {
+                union.insertChunk(union.chunkCount, other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                union.insertChunk(union.chunkCount, keys[i], chunks[i].or(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return union;
+    }
+
+    /**
+     * Returns the values in the bitmap in ascending order.
+     */
+    public int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int count = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            count = chunks[i].copyTo(keys[i] << CHUNK_BITS, values, count);
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CompressedBitmap // instanceof handles nulls
+                && Arrays.equals(toArray(), ((CompressedBitmap) other).toArray())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Returns the index of the chunk with {@code key}, or {@code -(insertion point) - 1} if there is none.
+     */
+    private int findChunk(int key) {
+        // values are usually added in ascending order, so the last chunk is checked first
+        if (chunkCount > 0 && keys[chunkCount - 1] == key) {
+            return chunkCount - 1;
+        }
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+    private void insertChunk(int index, int key, Chunk chunk) {
+        if (chunkCount == keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(4, 2 * chunkCount));
+            chunks = Arrays.copyOf(chunks, keys.length);
+        }
+        System.arraycopy(keys, index, keys, index + 1, chunkCount - index);
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+        keys[index] = key;
+        chunks[index] = chunk;
+        chunkCount++;
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, chunkCount - index - 1);
+        System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    /**
+     * The values of one chunk, as their lowest {@code CHUNK_BITS} bits.
+     */
+    private abstract static class Chunk {
+        protected int cardinality;
+
+        /**
+         * Adds {@code value}, and returns the chunk holding the result, which may be a new chunk.
+         */
+        abstract Chunk add(char value);
+
+        /**
+         * Removes {@code value}, and returns the chunk holding the result, which may be a new chunk.
+         */
+        abstract Chunk remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract Chunk and(Chunk other);
+
+        abstract Chunk or(Chunk other);
+
+        abstract Chunk copy();
+
+        /**
+         * Copies the values, each offset by {@code base}, into {@code destination} from {@code start}, and returns
+         * the index after the last value copied.
+         */
+        abstract int copyTo(int base, int[] destination, int start);
+    }
+
+    /**
+     * A chunk storing its values as a sorted array.
+     */
+    private static class ArrayChunk extends Chunk {
+        private char[] values;
+
+        ArrayChunk() {
+            values = new char[4];
+        }
+
+        ArrayChunk(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Chunk add(char value) {
+            int index = cardinality > 0 && values[cardinality - 1] < value
+                    ? -cardinality - 1
+                    : Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == MAX_ARRAY_CARDINALITY) {
+                return toBitmapChunk().add(value);
+            }
+
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_CARDINALITY, 2 * cardinality));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            char[] intersection = new char[cardinality];
+            int count = 0;
+            if (other instanceof BitmapChunk) {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        intersection[count++] = values[i];
+                    }
+                }
+                return new ArrayChunk(intersection, count);
+            }
+
+            ArrayChunk otherArray = (ArrayChunk) other;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < otherArray.cardinality) {
+                if (values[i] < otherArray.values[j]) {
+                    i++;
+                } else if (values[i] > otherArray.values[j]) {
+                    j++;
+                } else {
+                    intersection[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayChunk(intersection, count);
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            if (other instanceof BitmapChunk) {
+                return other.or(this);
+            }
+
+            ArrayChunk otherArray = (ArrayChunk) other;
+            char[] union = new char[cardinality + otherArray.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < otherArray.cardinality) {
+                if (j == otherArray.cardinality || (i < cardinality && values[i] < otherArray.values[j])) {
+                    union[count++] = values[i++];
+                } else if (i == cardinality || values[i] > otherArray.values[j]) {
+                    union[count++] = otherArray.values[j++];
+                } else {
+                    union[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayChunk arrayChunk = new ArrayChunk(union, count);
+            return count > MAX_ARRAY_CARDINALITY ? arrayChunk.toBitmapChunk() : arrayChunk;
+        }
+
+        @Override
+        Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        int copyTo(int base, int[] destination, int start) {
+            for (int i = 0; i < cardinality; i++) {
+                destination[start++] = base | values[i];
+            }
+            return start;
+        }
+
+        private BitmapChunk toBitmapChunk() {
+            BitmapChunk bitmapChunk = new BitmapChunk(new long[BITMAP_WORDS]);
+            for (int i = 0; i < cardinality; i++) {
+                bitmapChunk.add(values[i]);
+            }
+            return bitmapChunk;
+        }
+    }
+
+    /**
+     * A chunk storing its values as a bitmap of {@code CHUNK_SIZE} bits.
+     */
+    private static class BitmapChunk extends Chunk {
+        private final long[] words;
+
+        BitmapChunk(long[] words) {
+            this.words = words;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+        }
+
+        @Override
+        Chunk add(char value) {
+            long bit = 1L << value;
+            int index = value / Long.SIZE;
+            if ((words[index] & bit) == 0) {
+                words[index] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            long bit = 1L << value;
+            int index = value / Long.SIZE;
+            if ((words[index] & bit) == 0) {
+                return this;
+            }
+            words[index] &= ~bit;
+            cardinality--;
+            return cardinality > MAX_ARRAY_CARDINALITY ? this : toArrayChunk();
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value / Long.SIZE] & (1L << value)) != 0;
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            if (other instanceof ArrayChunk) {
+                return other.and(this);
+            }
+
+            long[] otherWords = ((BitmapChunk) other).words;
+            long[] intersection = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                intersection[i] = words[i] & otherWords[i];
+            }
+            BitmapChunk bitmapChunk = new BitmapChunk(intersection);
+            return bitmapChunk.cardinality > MAX_ARRAY_CARDINALITY ? bitmapChunk : bitmapChunk.toArrayChunk();
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            if (other instanceof ArrayChunk) {
+                BitmapChunk union = new BitmapChunk(words.clone());
+                ArrayChunk otherArray = (ArrayChunk) other;
+                for (int i = 0; i < otherArray.cardinality; i++) {
+                    union.add(otherArray.values[i]);
+                }
+                return union;
+            }
+
+            long[] otherWords = ((BitmapChunk) other).words;
+            long[] union = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                union[i] = words[i] | otherWords[i];
+            }
+            return new BitmapChunk(union);
+        }
+
+        @Override
+        Chunk copy() {
+            return new BitmapChunk(words.clone());
+        }
+
+        @Override
+        int copyTo(int base, int[] destination, int start) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    destination[start++] = base | (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return start;
+        }
+
+        private ArrayChunk toArrayChunk() {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayChunk(values, count);
+        }
+    }
+}
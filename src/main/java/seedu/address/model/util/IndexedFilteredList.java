@@ -0,0 +1,186 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A view of the elements of an observable list matching a predicate, like a {@code FilteredList}, except that the
+ * predicate can be set together with the indexes of the matching elements, such as those looked up in an index of the
+ * source list, so that the source list is not scanned to filter it.
+ * The view is kept up to date with each change to the source list by testing only the elements added or replaced by
+ * the change against the predicate.
+ *
+ * @param <E> The type of the elements of the list.
+ */
+public class IndexedFilteredList<E> extends ObservableListBase<E> {
+    private final ObservableList<E> source;
+    private Predicate<? super E> predicate = element -> true;
+    private int[] sourceIndexes;
+    private int size;
+
+    /**
+     * Creates an IndexedFilteredList showing all elements of {@code source}.
+     */
+    public IndexedFilteredList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        sourceIndexes = IntStream.range(0, source.size()).toArray();
+        size = sourceIndexes.length;
+        source.addListener(this::sourceChanged);
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the elements of the source list matching {@code predicate}, testing every element of the source list.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        setPredicate(predicate, IntStream.range(0, source.size())
+                .filter(index -> predicate.test(source.get(index)))
+                .toArray());
+    }
+
+    /**
+     * Shows the elements of the source list matching {@code predicate}, which are at {@code matchingSourceIndexes} in
+     * the source list, in ascending order. The elements are not tested against {@code predicate}.
+     */
+    public void setPredicate(Predicate<? super E> predicate, int[] matchingSourceIndexes) {
+        requireAllNonNull(predicate, matchingSourceIndexes);
+        for (int index : matchingSourceIndexes) {
+            Objects.checkIndex(index, source.size());
+        }
+
+        List<E> removed = new ArrayList<>(this);
+        this.predicate = predicate;
+        sourceIndexes = matchingSourceIndexes.clone();
+        size = matchingSourceIndexes.length;
+
+        beginChange();
+        nextReplace(0, size, removed);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return source.get(sourceIndexes[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Filters {@code change} to the source list, testing only the elements it adds or replaces.
+     * Each part of the change is applied in turn, as its indexes take the parts before it into account.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                for (int sourceIndex = change.getFrom(); sourceIndex < change.getTo(); sourceIndex++) {
+                    update(sourceIndex);
+                }
+            } else {
+                removeAndAdd(change);
+            }
+        }
+        endChange();
+    }
+
+    private void removeAndAdd(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+        int removedFrom = findIndex(from);
+        int removedTo = findIndex(from + removedSize);
+
+        List<E> removed = new ArrayList<>(removedTo - removedFrom);
+        for (int i = removedFrom; i < removedTo; i++) {
+            removed.add(change.getRemoved().get(sourceIndexes[i] - from));
+        }
+        int[] added = IntStream.range(from, from + addedSize)
+                .filter(sourceIndex -> predicate.test(source.get(sourceIndex)))
+                .toArray();
+
+        int newSize = size - removed.size() + added.length;
+        ensureCapacity(newSize);
+        System.arraycopy(sourceIndexes, removedTo, sourceIndexes, removedFrom + added.length, size - removedTo);
+        System.arraycopy(added, 0, sourceIndexes, removedFrom, added.length);
+        // the elements after the change are moved in the source list by the difference in its size
+        for (int i = removedFrom + added.length; i < newSize; i++) {
+            sourceIndexes[i] += addedSize - removedSize;
+        }
+        size = newSize;
+
+        if (!removed.isEmpty()) {
+            nextRemove(removedFrom, removed);
+        }
+        if (added.length > 0) {
+            nextAdd(removedFrom, removedFrom + added.length);
+        }
+    }
+
+    private void update(int sourceIndex) {
+        int index = findIndex(sourceIndex);
+        boolean isShown = index < size && sourceIndexes[index] == sourceIndex;
+        boolean isMatching = predicate.test(source.get(sourceIndex));
+        if (isShown && isMatching) {
+            nextUpdate(index);
+        } else if (isShown) {
+            E removed = source.get(sourceIndex);
+            System.arraycopy(sourceIndexes, index + 1, sourceIndexes, index, size - index - 1);
+            size--;
+            nextRemove(index, removed);
+        } else if (isMatching) {
+            ensureCapacity(size + 1);
+            System.arraycopy(sourceIndexes, index, sourceIndexes, index + 1, size - index);
+            sourceIndexes[index] = sourceIndex;
+            size++;
+            nextAdd(index, index + 1);
+        }
+    }
+
+    private void permute(ListChangeListener.Change<? extends E> change) {
+        int from = findIndex(change.getFrom());
+        int to = findIndex(change.getTo());
+        List<E> replaced = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            replaced.add(source.get(change.getPermutation(sourceIndexes[i])));
+            sourceIndexes[i] = change.getPermutation(sourceIndexes[i]);
+        }
+        Arrays.sort(sourceIndexes, from, to);
+        nextReplace(from, to, replaced);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (sourceIndexes.length < capacity) {
+            sourceIndexes = Arrays.copyOf(sourceIndexes, Math.max(capacity, sourceIndexes.length * 2));
+        }
+    }
+
+    /**
+     * Returns the index in this list of the first element at {@code sourceIndex} or after it in the source list.
+     */
+    private int findIndex(int sourceIndex) {
+        int index = Arrays.binarySearch(sourceIndexes, 0, size, sourceIndex);
+        return index >= 0 ? index : -index - 1;
+    }
+}
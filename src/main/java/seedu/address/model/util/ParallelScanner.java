@@ -0,0 +1,99 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Finds the elements of a list matching a predicate, splitting large lists into ranges which are tested in parallel
+ * by the threads of a {@code ForkJoinPool}.
+ * The predicate must be safe to test from several threads at once, and the list must not change during a scan.
+ */
+public class ParallelScanner {
+    /** Ranges shorter than this are tested on one thread, as splitting them would cost more than it saves. */
+    public static final int SEQUENTIAL_THRESHOLD = 8192;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a ParallelScanner running its scans in the common pool.
+     */
+    public ParallelScanner() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a ParallelScanner running its scans in {@code pool}.
+     */
+    public ParallelScanner(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the elements of {@code elements} matching {@code predicate}, in their order in {@code elements}.
+     * Lists shorter than {@code SEQUENTIAL_THRESHOLD} are scanned on the calling thread.
+     */
+    public <E> List<E> filter(List<E> elements, Predicate<? super E> predicate) {
+        requireAllNonNull(elements, predicate);
+        int size = elements.size();
+        List<E> matchingElements = new ArrayList<>();
+        if (size < SEQUENTIAL_THRESHOLD || pool.getParallelism() == 1) {
+            for (E element : elements) {
+                if (predicate.test(element)) {
+                    matchingElements.add(element);
+                }
+            }
+            return matchingElements;
+        }
+
+        // each task only marks the elements of its own range, so the tasks never write to the same entry
+        boolean[] matches = new boolean[size];
+        pool.invoke(new ScanTask<>(elements, predicate, matches, 0, size));
+        for (int i = 0; i < size; i++) {
+            if (matches[i]) {
+                matchingElements.add(elements.get(i));
+            }
+        }
+        return matchingElements;
+    }
+
+    /**
+     * Marks the elements from {@code from} (inclusive) to {@code to} (exclusive) matching the predicate, splitting
+     * the range in halves until it is short enough to test on one thread.
+     */
+    private static class ScanTask<E> extends RecursiveAction {
+        private final List<E> elements;
+        private final Predicate<? super E> predicate;
+        private final boolean[] matches;
+        private final int from;
+        private final int to;
+
+        ScanTask(List<E> elements, Predicate<? super E> predicate, boolean[] matches, int from, int to) {
+            this.elements = elements;
+            this.predicate = predicate;
+            this.matches = matches;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    matches[i] = predicate.test(elements.get(i));
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScanTask<>(elements, predicate, matches, from, middle),
+                    new ScanTask<>(elements, predicate, matches, middle, to));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.address.model.util;
+
+/**
+ * A read-only view of how often a query cache served, missed and evicted results.
+ */
+public interface QueryCacheStatistics {
+
+    /** Returns the number of queries served from the cache. */
+    long getHitCount();
+
+    /** Returns the number of queries that had no result cached at the current version. */
+    long getMissCount();
+
+    /** Returns the number of results evicted to make room for newer ones. */
+    long getEvictionCount();
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A bounded cache of query results, each tagged with the version of the data it was computed from.
+ * A result is only served while the data is at the same version, so the owner of the data invalidates every result
+ * at once by moving to a new version. When full, the least recently used result is evicted.
+ *
+ * @param <K> The type of the queries, which must implement {@code equals} and {@code hashCode} such that equivalent
+ *     queries are equal.
+ * @param <V> The type of the results.
+ */
+public class QueryResultCache<K, V> implements QueryCacheStatistics {
+
+    private final Map<K, VersionedResult<V>> results;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates an empty QueryResultCache holding at most {@code capacity} results.
+     */
+    public QueryResultCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, VersionedResult<V>> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                evictionCount++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of {@code query} cached at {@code version}, if any.
+     * A result cached at another version is stale, and is removed.
+     */
+    public Optional<V> get(K query, long version) {
+        requireNonNull(query);
+        VersionedResult<V> cachedResult = results.get(query);
+        if (cachedResult == null || cachedResult.version != version) {
+            if (cachedResult != null) {
+                results.remove(query);
+            }
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(cachedResult.result);
+    }
+
+    /**
+     * Caches {@code result} as the result of {@code query} at {@code version}.
+     */
+    public void put(K query, long version, V result) {
+        requireNonNull(query);
+        requireNonNull(result);
+        results.put(query, new VersionedResult<>(version, result));
+    }
+
+    /**
+     * Removes all cached results. The counters are kept.
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return size() + " results cached, " + hitCount + " hits, " + missCount + " misses, "
+                + evictionCount + " evictions";
+    }
+
+    /**
+     * A cached result and the version of the data it was computed from.
+     */
+    private static class VersionedResult<V> {
+        private final long version;
+        private final V result;
+
+        VersionedResult(long version, V result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Ids of the rows of a list, which stay the same as rows are inserted or removed before them, so that indexes of the
+ * list can refer to its elements by id without being updated whenever rows shift.
+ * The id of a removed row is reused for the next row inserted, so that the ids in use stay small and dense.
+ * Inserting or removing rows only moves the ids of the rows after them, as the list itself moves its elements.
+ */
+public class RowIds {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] idsByRow = new int[INITIAL_CAPACITY];
+    private int[] rowsById = new int[INITIAL_CAPACITY];
+    private int[] freeIds = new int[INITIAL_CAPACITY];
+    private int rowCount;
+    private int freeIdCount;
+    private int idCount;
+
+    /**
+     * Returns the number of rows.
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the id of the row at {@code row}.
+     */
+    public int getId(int row) {
+        Objects.checkIndex(row, rowCount);
+        return idsByRow[row];
+    }
+
+    /**
+     * Returns the row with {@code id}, which must be the id of a row.
+     */
+    public int getRow(int id) {
+        Objects.checkIndex(id, idCount);
+        return rowsById[id];
+    }
+
+    /**
+     * Inserts a row at {@code row}, moving the rows from {@code row} onwards down by one, and returns its id.
+     */
+    public int insert(int row) {
+        return insertAll(new int[] {row})[0];
+    }
+
+    /**
+     * Inserts rows so that they end up at {@code rows}, which must be in ascending order, and returns their ids in the
+     * same order.
+     * The rows after the first inserted are moved once, however many rows are inserted.
+     */
+    public int[] insertAll(int[] rows) {
+        int[] ids = new int[rows.length];
+        if (rows.length == 0) {
+            return ids;
+        }
+        int newRowCount = rowCount + rows.length;
+        Objects.checkIndex(rows[0], newRowCount);
+        Objects.checkIndex(rows[rows.length - 1], newRowCount);
+        idsByRow = ensureCapacity(idsByRow, newRowCount);
+
+        int readRow = rowCount - 1;
+        int insertedIndex = rows.length - 1;
+        for (int writeRow = newRowCount - 1; insertedIndex >= 0; writeRow--) {
+            if (rows[insertedIndex] == writeRow) {
+                ids[insertedIndex] = allocateId();
+                idsByRow[writeRow] = ids[insertedIndex];
+                insertedIndex--;
+            } else {
+                idsByRow[writeRow] = idsByRow[readRow--];
+            }
+        }
+        rowCount = newRowCount;
+        updateRowsFrom(rows[0]);
+        return ids;
+    }
+
+    /**
+     * Removes the row at {@code row}, moving the rows after it up by one, and returns its id.
+     * The id is reused for a row inserted later.
+     */
+    public int remove(int row) {
+        int id = getId(row);
+        removeAll(new int[] {row});
+        return id;
+    }
+
+    /**
+     * Removes the rows at {@code rows}, which must be in ascending order.
+     * The rows after the first removed are moved once, however many rows are removed.
+     */
+    public void removeAll(int[] rows) {
+        if (rows.length == 0) {
+            return;
+        }
+        Objects.checkIndex(rows[0], rowCount);
+        Objects.checkIndex(rows[rows.length - 1], rowCount);
+
+        int writeRow = rows[0];
+        int removedIndex = 0;
+        for (int readRow = rows[0]; readRow < rowCount; readRow++) {
+            if (removedIndex < rows.length && rows[removedIndex] == readRow) {
+                freeId(idsByRow[readRow]);
+                removedIndex++;
+            } else {
+                idsByRow[writeRow++] = idsByRow[readRow];
+            }
+        }
+        rowCount = writeRow;
+        updateRowsFrom(rows[0]);
+    }
+
+    /**
+     * Replaces all rows with {@code size} rows, whose ids are their rows.
+     */
+    public void reset(int size) {
+        idsByRow = new int[Math.max(size, INITIAL_CAPACITY)];
+        rowsById = new int[idsByRow.length];
+        freeIds = new int[INITIAL_CAPACITY];
+        for (int row = 0; row < size; row++) {
+            idsByRow[row] = row;
+            rowsById[row] = row;
+        }
+        rowCount = size;
+        freeIdCount = 0;
+        idCount = size;
+    }
+
+    private int allocateId() {
+        if (freeIdCount > 0) {
+            return freeIds[--freeIdCount];
+        }
+        rowsById = ensureCapacity(rowsById, idCount + 1);
+        return idCount++;
+    }
+
+    private void freeId(int id) {
+        freeIds = ensureCapacity(freeIds, freeIdCount + 1);
+        freeIds[freeIdCount++] = id;
+    }
+
+    /**
+     * Points the ids of the rows from {@code row} onwards to their rows.
+     */
+    private void updateRowsFrom(int row) {
+        for (int i = row; i < rowCount; i++) {
+            rowsById[idsByRow[i]] = i;
+        }
+    }
+
+    private static int[] ensureCapacity(int[] array, int capacity) {
+        if (array.length >= capacity) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(capacity, array.length * 2));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of one of several observable lists, which can be switched to another list at any time.
+ * Changes to the list being viewed are passed on to the listeners of this list, so that a UI bound to this list once
+ * shows whichever list is switched to, and keeps up with its changes.
+ * Switching to a list that is kept up to date, such as a {@code FilteredList}, shows it without filtering its source
+ * again.
+ *
+ * @param <E> The type of the elements of the lists.
+ */
+public class SwitchableObservableList<E> extends ObservableListBase<E> {
+    private final ListChangeListener<E> sourceListener = this::sourceChanged;
+    private ObservableList<E> source;
+
+    /**
+     * Creates a SwitchableObservableList viewing {@code source}.
+     */
+    public SwitchableObservableList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(sourceListener);
+    }
+
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Switches this list to view {@code newSource}.
+     * Listeners are told that every element of the previous list was replaced by every element of {@code newSource}.
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        ObservableList<E> oldSource = source;
+        oldSource.removeListener(sourceListener);
+        source = newSource;
+        newSource.addListener(sourceListener);
+
+        beginChange();
+        nextReplace(0, newSource.size(), oldSource);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    /**
+     * Passes {@code change} to the source on to the listeners of this list.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = 0; i < permutation.length; i++) {
+                    permutation[i] = change.getPermutation(change.getFrom() + i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(change.getFrom(), change.getTo(), change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), change.getRemoved());
+            } else if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Indexes a set of words by their trigrams, so that the words within a small edit distance of a given word can be
+ * found without computing the edit distance to every word.
+ * Words are padded before being split into trigrams, so that their first and last letters are also indexed.
+ */
+public class TrigramIndex {
+    private static final String PADDING = "$$";
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code word} to the index.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        for (String trigram : getTrigrams(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        for (String trigram : getTrigrams(word)) {
+            Set<String> wordsWithTrigram = wordsByTrigram.get(trigram);
+            if (wordsWithTrigram == null) {
+                continue;
+            }
+            wordsWithTrigram.remove(word);
+            if (wordsWithTrigram.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes all words from the index.
+     */
+    public void clear() {
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the indexed words within {@code maxDistance} edits of {@code word}, mapped to their edit distance.
+     * Words that share no trigram with {@code word} are not considered, so a very short word with a typo in every
+     * trigram may be missed.
+     */
+    public Map<String, Integer> getWordsSimilarTo(String word, int maxDistance) {
+        requireNonNull(word);
+        List<Set<String>> postings = getTrigrams(word).stream()
+                .map(trigram -> wordsByTrigram.getOrDefault(trigram, Collections.emptySet()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+
+        // each edit destroys at most three trigrams, so a similar word shares enough trigrams with word to appear
+        // in at least one of the rarest postings, and the more common postings need not be read
+        int requiredTrigramCount = Math.max(1, postings.size() - 3 * maxDistance);
+        Set<String> candidates = new HashSet<>();
+        postings.subList(0, postings.size() - requiredTrigramCount + 1).forEach(candidates::addAll);
+
+        Map<String, Integer> similarWords = new HashMap<>();
+        for (String candidate : candidates) {
+            int distance = StringUtil.getBoundedEditDistance(word, candidate, maxDistance);
+            if (distance <= maxDistance) {
+                similarWords.put(candidate, distance);
+            }
+        }
+        return similarWords;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded on both sides.
+     */
+    private static Set<String> getTrigrams(String word) {
+        String paddedWord = PADDING + word + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,254 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyApplicantBook;
+import seedu.address.model.ReadOnlyPositionBook;
+
+/**
+ * Saves the position book and applicant book to a {@code Storage} on a background thread, so that the caller does
+ * not wait for the books to be written.
+ * Changes are appended to the journal of the storage, in the order they are requested. Now and then the books are
+ * checkpointed instead: both books are written whole, replacing their data files atomically, and the journal is
+ * then discarded. A checkpoint interrupted by a crash is completed or discarded on startup.
+ * A checkpoint requested while the newest queued task is a checkpoint not started yet is merged into that checkpoint,
+ * so that only the latest books are written. It is queued after the appends queued so far otherwise, so that it never
+ * runs before the records it covers are appended.
+ * Once a checkpoint fails, the journal is kept whole and a new checkpoint of the current books is required, rather
+ * than writing the failed books again over records appended since. Once records fail to be appended, further records
+ * are dropped until a checkpoint succeeds, and a checkpoint is required as well.
+ */
+public class BackgroundBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(BackgroundBookSaver.class);
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final Storage storage;
+    private final BookJournal journal;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Consumer<IOException> failureHandler = unused -> {};
+
+    // guarded by this
+    private CheckpointTask newestQueuedCheckpoint;
+    private boolean isCheckpointRequired;
+    private boolean isJournalIncomplete;
+    private IOException lastFailure;
+
+    /**
+     * Creates a BackgroundBookSaver writing the books and their journal to {@code storage}.
+     */
+    public BackgroundBookSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.journal = new BookJournal(storage.getJournalFilePath());
+    }
+
+    /**
+     * Sets {@code failureHandler} to be called, on the background thread, whenever the books fail to be written.
+     */
+    public synchronized void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Returns true if a checkpoint failed, or records failed to be appended to the journal, since the last checkpoint
+     * was requested, so that only a new checkpoint can save the changes since then.
+     */
+    public synchronized boolean isCheckpointRequired() {
+        return isCheckpointRequired;
+    }
+
+    /**
+     * Requests {@code records} to be appended to the journal, after every record and checkpoint requested so far.
+     */
+    public synchronized void appendToJournal(List<JsonAdaptedJournalRecord> records) {
+        requireNonNull(records);
+        if (!records.isEmpty()) {
+            // a checkpoint requested from now on covers these records, so it must not be merged into one queued before
+            newestQueuedCheckpoint = null;
+            executor.execute(() -> append(records));
+        }
+    }
+
+    /**
+     * Requests {@code positionBook} and {@code applicantBook} to be written whole, replacing any books not written
+     * yet, and the journal to be cleared once they are.
+     * The books must not change afterwards, and must hold every change requested to be appended so far.
+     */
+    public synchronized void checkpoint(ReadOnlyPositionBook positionBook, ReadOnlyApplicantBook applicantBook) {
+        requireAllNonNull(positionBook, applicantBook);
+        isCheckpointRequired = false;
+        if (newestQueuedCheckpoint != null) {
+            newestQueuedCheckpoint.positionBook = positionBook;
+            newestQueuedCheckpoint.applicantBook = applicantBook;
+            return;
+        }
+        newestQueuedCheckpoint = new CheckpointTask(positionBook, applicantBook);
+        executor.execute(newestQueuedCheckpoint);
+    }
+
+    /**
+     * Waits until every record and book requested so far has been written.
+     *
+     * @throws IOException If a write failed since the last checkpoint that succeeded.
+     */
+    public void flush() throws IOException {
+        try {
+            // the executor runs one task at a time in order, so every write scheduled so far ends before this task
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
+
+        synchronized (this) {
+            if (lastFailure != null) {
+                throw lastFailure;
+            }
+        }
+    }
+
+    /**
+     * Appends {@code records} to the journal, unless an earlier append failed since the last checkpoint that succeeded.
+     */
+    private void append(List<JsonAdaptedJournalRecord> records) {
+        synchronized (this) {
+            if (isJournalIncomplete) {
+                // the journal misses earlier records, so these would be replayed out of order
+                return;
+            }
+        }
+
+        try {
+            journal.append(records);
+        } catch (IOException e) {
+            synchronized (this) {
+                isJournalIncomplete = true;
+                isCheckpointRequired = true;
+            }
+            reportFailure(e);
+        }
+    }
+
+    /**
+     * Writes the books of {@code task}, then clears the journal.
+     */
+    private void writeCheckpoint(CheckpointTask task) {
+        ReadOnlyPositionBook positionBook;
+        ReadOnlyApplicantBook applicantBook;
+        synchronized (this) {
+            if (newestQueuedCheckpoint == task) {
+                newestQueuedCheckpoint = null;
+            }
+            positionBook = task.positionBook;
+            applicantBook = task.applicantBook;
+        }
+
+        try {
+            storage.savePositionBook(positionBook, toTemporaryFilePath(storage.getPositionBookFilePath()));
+            storage.saveApplicantBook(applicantBook, toTemporaryFilePath(storage.getApplicantBookFilePath()));
+            // once the records are set aside, replaying them over the books moved in next would undo any change
+            // written by this checkpoint without being journaled, so a checkpoint interrupted from then on is
+            // completed instead by completeInterruptedCheckpoint
+            journal.beginCheckpoint();
+            moveTemporaryFiles(storage);
+            journal.endCheckpoint();
+            synchronized (this) {
+                // the written books hold every record queued before this task, including those dropped
+                isJournalIncomplete = false;
+                lastFailure = null;
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                // records appended since these books were requested would be lost if they were written again later
+                isCheckpointRequired = true;
+            }
+            reportFailure(e);
+        }
+    }
+
+    private void reportFailure(IOException e) {
+        logger.warning("Failed to save the books " + StringUtil.getDetails(e));
+        Consumer<IOException> handler;
+        synchronized (this) {
+            lastFailure = e;
+            handler = failureHandler;
+        }
+        handler.accept(e);
+    }
+
+    /**
+     * Completes the checkpoint of the books in {@code storage} if it was interrupted after the journal was set aside,
+     * by moving in the books it had written. Otherwise discards the books of an interrupted checkpoint, which may not
+     * have been written whole, so that the journal is replayed over the data files instead.
+     */
+    public static void completeInterruptedCheckpoint(Storage storage) throws IOException {
+        BookJournal journal = new BookJournal(storage.getJournalFilePath());
+        if (journal.isCheckpointInterrupted()) {
+            logger.info("Completing the checkpoint interrupted in " + storage.getJournalFilePath());
+            moveTemporaryFiles(storage);
+            journal.endCheckpoint();
+        } else {
+            Files.deleteIfExists(toTemporaryFilePath(storage.getPositionBookFilePath()));
+            Files.deleteIfExists(toTemporaryFilePath(storage.getApplicantBookFilePath()));
+        }
+    }
+
+    /**
+     * Moves the books written by a checkpoint over the data files, skipping those already moved.
+     */
+    private static void moveTemporaryFiles(Storage storage) throws IOException {
+        for (Path filePath : List.of(storage.getPositionBookFilePath(), storage.getApplicantBookFilePath())) {
+            Path temporaryFilePath = toTemporaryFilePath(filePath);
+            if (Files.exists(temporaryFilePath)) {
+                moveAtomically(temporaryFilePath, filePath);
+            }
+        }
+    }
+
+    private static Path toTemporaryFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes the books requested by the checkpoints merged into this task.
+     */
+    private class CheckpointTask implements Runnable {
+        // guarded by BackgroundBookSaver.this
+        private ReadOnlyPositionBook positionBook;
+        private ReadOnlyApplicantBook applicantBook;
+
+        CheckpointTask(ReadOnlyPositionBook positionBook, ReadOnlyApplicantBook applicantBook) {
+            this.positionBook = positionBook;
+            this.applicantBook = applicantBook;
+        }
+
+        @Override
+        public void run() {
+            writeCheckpoint(this);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ApplicantBook;
+import seedu.address.model.PositionBook;
+
+/**
+ * An append-only file of journal records, holding the changes to the books since their data files were last written.
+ * Each record is written as its length, its CRC-32 checksum and its compact JSON, so that a record torn by a crash
+ * while it was being appended is detected when the journal is read, and discarded with any record after it.
+ */
+public class BookJournal {
+    /** The bytes written before the JSON of each record: its length and its checksum. */
+    static final int HEADER_LENGTH = 2 * Integer.BYTES;
+    private static final String CHECKPOINT_FILE_SUFFIX = ".checkpoint";
+
+    private static final Logger logger = LogsCenter.getLogger(BookJournal.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates a BookJournal kept in the file at {@code filePath}.
+     */
+    public BookJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the journal has any record.
+     */
+    public boolean hasRecords() throws IOException {
+        return Files.exists(filePath) && Files.size(filePath) > 0;
+    }
+
+    /**
+     * Appends {@code records} to the journal, and waits until they have reached the disk.
+     */
+    public void append(List<JsonAdaptedJournalRecord> records) throws IOException {
+        requireNonNull(records);
+        if (records.isEmpty()) {
+            return;
+        }
+
+        List<byte[]> payloads = new ArrayList<>(records.size());
+        int length = 0;
+        for (JsonAdaptedJournalRecord record : records) {
+            byte[] payload = JsonUtil.toCompactJsonString(record).getBytes(StandardCharsets.UTF_8);
+            payloads.add(payload);
+            length += HEADER_LENGTH + payload.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (byte[] payload : payloads) {
+            buffer.putInt(payload.length).putInt(checksum(payload, 0, payload.length)).put(payload);
+        }
+        buffer.flip();
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Applies every record of the journal, in order, to {@code positionBook} and {@code applicantBook}.
+     * A torn or corrupted record is discarded from the journal, along with every record after it.
+     *
+     * @throws DataConversionException If a record holds data that is not valid.
+     */
+    public void replay(PositionBook positionBook, ApplicantBook applicantBook)
+            throws DataConversionException, IOException {
+        requireAllNonNull(positionBook, applicantBook);
+        if (!Files.exists(filePath)) {
+            return;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        int recordCount = 0;
+        while (buffer.remaining() >= HEADER_LENGTH) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()
+                    || checksum(buffer.array(), buffer.position(), length) != checksum) {
+                buffer.position(start);
+                break;
+            }
+
+            String json = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            try {
+                JsonUtil.fromJsonString(json, JsonAdaptedJournalRecord.class).applyTo(positionBook, applicantBook);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Journal record " + recordCount + " in " + filePath + " is not valid: " + e);
+                throw new DataConversionException(e);
+            }
+            recordCount++;
+        }
+
+        logger.info("Replayed " + recordCount + " journal records from " + filePath);
+        if (buffer.hasRemaining()) {
+            logger.warning("Discarding the torn tail of " + buffer.remaining() + " bytes from " + filePath);
+            truncate(buffer.position());
+        }
+    }
+
+    /**
+     * Sets the records of the journal aside while a checkpoint replaces the data files with books holding them, so
+     * that the journal is empty from then on. Whether a checkpoint was interrupted can then be told from whether its
+     * records are still set aside.
+     */
+    public void beginCheckpoint() throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        if (Files.exists(filePath)) {
+            Files.move(filePath, getCheckpointFilePath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } else {
+            Files.write(getCheckpointFilePath(), new byte[0]);
+        }
+    }
+
+    /**
+     * Discards the records set aside by {@link #beginCheckpoint()}, once the data files hold them.
+     */
+    public void endCheckpoint() throws IOException {
+        Files.deleteIfExists(getCheckpointFilePath());
+    }
+
+    /**
+     * Returns true if records have been set aside by a checkpoint which has not ended.
+     */
+    public boolean isCheckpointInterrupted() {
+        return Files.exists(getCheckpointFilePath());
+    }
+
+    private Path getCheckpointFilePath() {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKPOINT_FILE_SUFFIX);
+    }
+
+    private void truncate(long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(false);
+        }
+    }
+
+    private static int checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts a stream of Jackson-friendly elements into model elements, which are passed on in the order of the stream.
+ * Elements are converted in batches by the threads of a {@code ForkJoinPool} while the stream is still being read.
+ * At most a few batches are converted or waiting to be passed on at once, so that the elements held by the pipeline
+ * do not grow with the length of the stream.
+ * The conversion must be safe to run from several threads at once.
+ *
+ * @param <A> The type of the Jackson-friendly elements.
+ * @param <M> The type of the model elements.
+ */
+public class ConversionPipeline<A, M> implements AutoCloseable {
+    /** The number of elements converted together by one thread. */
+    public static final int BATCH_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final Converter<A, M> converter;
+    private final Consumer<M> sink;
+    private final int maxPendingBatches;
+    private final Deque<BatchTask> pendingBatches = new ArrayDeque<>();
+    private List<A> batch = new ArrayList<>(BATCH_SIZE);
+
+    /**
+     * Creates a ConversionPipeline converting elements with {@code converter} in the common pool, and passing them on
+     * to {@code sink}.
+     */
+    public ConversionPipeline(Converter<A, M> converter, Consumer<M> sink) {
+        this(ForkJoinPool.commonPool(), converter, sink);
+    }
+
+    /**
+     * Creates a ConversionPipeline converting elements with {@code converter} in {@code pool}, and passing them on to
+     * {@code sink}.
+     */
+    public ConversionPipeline(ForkJoinPool pool, Converter<A, M> converter, Consumer<M> sink) {
+        requireAllNonNull(pool, converter, sink);
+        this.pool = pool;
+        this.converter = converter;
+        this.sink = sink;
+        this.maxPendingBatches = 2 * pool.getParallelism();
+    }
+
+    /**
+     * Adds {@code element} to the end of the stream.
+     * Elements are converted on the calling thread if the pool has a single thread, as nothing could be converted
+     * alongside.
+     *
+     * @throws IllegalValueException If an element of the stream so far violates any data constraints.
+     */
+    public void accept(A element) throws IllegalValueException {
+        requireNonNull(element);
+        if (pool.getParallelism() == 1) {
+            sink.accept(converter.convert(element));
+            return;
+        }
+
+        batch.add(element);
+        if (batch.size() == BATCH_SIZE) {
+            submitBatch();
+        }
+    }
+
+    /**
+     * Waits until every element of the stream has been converted and passed on.
+     *
+     * @throws IllegalValueException If an element of the stream violates any data constraints.
+     */
+    public void finish() throws IllegalValueException {
+        if (!batch.isEmpty()) {
+            submitBatch();
+        }
+        while (!pendingBatches.isEmpty()) {
+            passOnOldestBatch();
+        }
+    }
+
+    /**
+     * Cancels the conversion of the batches not passed on yet.
+     */
+    @Override
+    public void close() {
+        pendingBatches.forEach(task -> task.cancel(false));
+        pendingBatches.clear();
+        batch.clear();
+    }
+
+    private void submitBatch() throws IllegalValueException {
+        if (pendingBatches.size() == maxPendingBatches) {
+            // bounds the batches held, waiting for the oldest before reading on
+            passOnOldestBatch();
+        }
+        BatchTask task = new BatchTask(batch);
+        pool.execute(task);
+        pendingBatches.add(task);
+        batch = new ArrayList<>(BATCH_SIZE);
+    }
+
+    private void passOnOldestBatch() throws IllegalValueException {
+        BatchTask task = pendingBatches.remove();
+        List<M> convertedElements = task.join();
+        if (task.failure != null) {
+            throw task.failure;
+        }
+        convertedElements.forEach(sink);
+    }
+
+    /**
+     * Converts a Jackson-friendly element into a model element.
+     */
+    @FunctionalInterface
+    public interface Converter<A, M> {
+        /**
+         * Returns the model element of {@code element}.
+         *
+         * @throws IllegalValueException If {@code element} violates any data constraints.
+         */
+        M convert(A element) throws IllegalValueException;
+    }
+
+    /**
+     * Converts the elements of a batch, stopping at the first element violating any data constraints.
+     */
+    private class BatchTask extends RecursiveTask<List<M>> {
+        private final List<A> elements;
+        private IllegalValueException failure;
+
+        BatchTask(List<A> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        protected List<M> compute() {
+            List<M> convertedElements = new ArrayList<>(elements.size());
+            try {
+                for (A element : elements) {
+                    convertedElements.add(converter.convert(element));
+                }
+            } catch (IllegalValueException e) {
+                failure = e;
+            }
+            return convertedElements;
+        }
+    }
+}
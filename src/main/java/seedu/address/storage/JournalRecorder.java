@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ReadOnlyApplicantBook;
+import seedu.address.model.ReadOnlyPositionBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.position.Position;
+
+/**
+ * Records the changes to a position book and an applicant book as journal records, by listening to their lists.
+ * Position and applicant records are recorded in the order in which the lists changed.
+ * Reorderings of a list cannot be recorded, as records only put and delete positions and applicants.
+ */
+public class JournalRecorder {
+    private final List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+    private boolean hasUnrecordableChange;
+
+    /**
+     * Creates a JournalRecorder recording the changes to {@code positionBook} and {@code applicantBook} from now on.
+     */
+    public JournalRecorder(ReadOnlyPositionBook positionBook, ReadOnlyApplicantBook applicantBook) {
+        requireAllNonNull(positionBook, applicantBook);
+        positionBook.getPositionList().addListener((ListChangeListener<Position>) change ->
+                record(change, Position::getTitle, JsonAdaptedJournalRecord::putPosition,
+                        JsonAdaptedJournalRecord::deletePosition));
+        applicantBook.getApplicantList().addListener((ListChangeListener<Applicant>) change ->
+                record(change, Applicant::getName, JsonAdaptedJournalRecord::putApplicant,
+                        JsonAdaptedJournalRecord::deleteApplicant));
+    }
+
+    /**
+     * Returns the records of the changes since the last call, or {@code Optional.empty()} if some of the changes
+     * could not be recorded, in which case the books must be saved whole instead.
+     */
+    public Optional<List<JsonAdaptedJournalRecord>> takeRecords() {
+        List<JsonAdaptedJournalRecord> takenRecords = new ArrayList<>(records);
+        boolean isRecordable = !hasUnrecordableChange;
+        records.clear();
+        hasUnrecordableChange = false;
+        return isRecordable ? Optional.of(takenRecords) : Optional.empty();
+    }
+
+    /**
+     * Records {@code change}, pairing each removed element with the element added in its place.
+     */
+    private <E, K> void record(ListChangeListener.Change<? extends E> change, Function<E, K> toKey,
+            PutRecordFactory<E, K> putRecord, Function<K, JsonAdaptedJournalRecord> deleteRecord) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                hasUnrecordableChange = true;
+                continue;
+            }
+            if (hasUnrecordableChange || change.wasUpdated()) {
+                // updates replace nothing, as positions and applicants are immutable
+                continue;
+            }
+
+            List<? extends E> removed = change.getRemoved();
+            List<? extends E> added = change.getAddedSubList();
+            int paired = Math.min(removed.size(), added.size());
+            for (int i = 0; i < paired; i++) {
+                records.add(putRecord.create(change.getFrom() + i, toKey.apply(removed.get(i)), added.get(i)));
+            }
+            for (int i = paired; i < removed.size(); i++) {
+                records.add(deleteRecord.apply(toKey.apply(removed.get(i))));
+            }
+            for (int i = paired; i < added.size(); i++) {
+                E element = added.get(i);
+                records.add(putRecord.create(change.getFrom() + i, toKey.apply(element), element));
+            }
+        }
+    }
+
+    /**
+     * Creates the record putting an element at an index, in place of the element with a key.
+     */
+    @FunctionalInterface
+    private interface PutRecordFactory<E, K> {
+        JsonAdaptedJournalRecord create(int index, K replacedKey, E element);
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ApplicantBook;
+import seedu.address.model.PositionBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Name;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+import seedu.address.storage.applicant.JsonAdaptedApplicant;
+import seedu.address.storage.position.JsonAdaptedPosition;
+
+/**
+ * Jackson-friendly version of a change to the position book or applicant book, as recorded in a {@link BookJournal}.
+ * A record puts a position or applicant in place of the one with the key of the record, or deletes the one with the
+ * key of the record. Positions and applicants are identified by their title and name respectively.
+ * Applying a record to books which already contain its change, or the changes of later records, leaves the books as
+ * applying every later record would, so that a journal can be replayed over a snapshot taken at any point of it.
+ */
+public class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    /**
+     * The kinds of change a record can make.
+     */
+    public enum Operation { PUT_POSITION, DELETE_POSITION, PUT_APPLICANT, DELETE_APPLICANT }
+
+    private final Operation operation;
+    private final int index;
+    private final String key;
+    private final JsonAdaptedPosition position;
+    private final JsonAdaptedApplicant applicant;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") Operation operation, @JsonProperty("index") int index,
+            @JsonProperty("key") String key, @JsonProperty("position") JsonAdaptedPosition position,
+            @JsonProperty("applicant") JsonAdaptedApplicant applicant) {
+        this.operation = operation;
+        this.index = index;
+        this.key = key;
+        this.position = position;
+        this.applicant = applicant;
+    }
+
+    /**
+     * Returns a record putting {@code position} at {@code index} of the position list, in place of the position
+     * titled {@code replacedTitle}.
+     */
+    public static JsonAdaptedJournalRecord putPosition(int index, Title replacedTitle, Position position) {
+        requireNonNull(position);
+        return new JsonAdaptedJournalRecord(Operation.PUT_POSITION, index, replacedTitle.fullTitle,
+                new JsonAdaptedPosition(position), null);
+    }
+
+    /**
+     * Returns a record deleting the position titled {@code title}.
+     */
+    public static JsonAdaptedJournalRecord deletePosition(Title title) {
+        return new JsonAdaptedJournalRecord(Operation.DELETE_POSITION, 0, title.fullTitle, null, null);
+    }
+
+    /**
+     * Returns a record putting {@code applicant} at {@code index} of the applicant list, in place of the applicant
+     * named {@code replacedName}.
+     */
+    public static JsonAdaptedJournalRecord putApplicant(int index, Name replacedName, Applicant applicant) {
+        requireNonNull(applicant);
+        return new JsonAdaptedJournalRecord(Operation.PUT_APPLICANT, index, replacedName.fullName,
+                null, new JsonAdaptedApplicant(applicant));
+    }
+
+    /**
+     * Returns a record deleting the applicant named {@code name}.
+     */
+    public static JsonAdaptedJournalRecord deleteApplicant(Name name) {
+        return new JsonAdaptedJournalRecord(Operation.DELETE_APPLICANT, 0, name.fullName, null, null);
+    }
+
+    /**
+     * Applies the change of this record to {@code positionBook} and {@code applicantBook}.
+     *
+     * @throws IllegalValueException If there were any data constraints violated in the record.
+     */
+    public void applyTo(PositionBook positionBook, ApplicantBook applicantBook) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+
+        switch (operation) {
+        case PUT_POSITION:
+            putPosition(positionBook, toModelTitle(), toModelPosition());
+            break;
+        case DELETE_POSITION:
+            Title title = toModelTitle();
+            if (positionBook.hasPositionWithTitle(title)) {
+                positionBook.removePosition(positionBook.getPositionWithTitle(title));
+            }
+            break;
+        case PUT_APPLICANT:
+            if (applicant != null && !applicant.isApplyingToPositionIn(positionBook)) {
+                // positions are only deleted or renamed along with their applicants, so the position of an applicant
+                // is only missing when the books already hold the deletion or renaming recorded later
+                break;
+            }
+            putApplicant(applicantBook, toModelName(), toModelApplicant(positionBook));
+            break;
+        case DELETE_APPLICANT:
+            Name name = toModelName();
+            if (applicantBook.hasApplicantWithName(name)) {
+                applicantBook.removeApplicant(applicantBook.getApplicantWithName(name));
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown operation " + operation);
+        }
+    }
+
+    /**
+     * Puts {@code newPosition} in place of the position with its own title, or else of the position titled
+     * {@code replacedTitle}, or else inserts it. Either way, no position is left titled {@code replacedTitle} unless
+     * {@code newPosition} is.
+     */
+    private void putPosition(PositionBook positionBook, Title replacedTitle, Position newPosition) {
+        Title newTitle = newPosition.getTitle();
+        if (positionBook.hasPositionWithTitle(newTitle)) {
+            positionBook.setPosition(positionBook.getPositionWithTitle(newTitle), newPosition);
+            if (!replacedTitle.equals(newTitle) && positionBook.hasPositionWithTitle(replacedTitle)) {
+                positionBook.removePosition(positionBook.getPositionWithTitle(replacedTitle));
+            }
+        } else if (positionBook.hasPositionWithTitle(replacedTitle)) {
+            positionBook.setPosition(positionBook.getPositionWithTitle(replacedTitle), newPosition);
+        } else {
+            positionBook.addPosition(Math.min(index, positionBook.getPositionList().size()), newPosition);
+        }
+    }
+
+    /**
+     * Puts {@code newApplicant} in place of the applicant with its own name, or else of the applicant named
+     * {@code replacedName}, or else inserts it. Either way, no applicant is left named {@code replacedName} unless
+     * {@code newApplicant} is.
+     */
+    private void putApplicant(ApplicantBook applicantBook, Name replacedName, Applicant newApplicant) {
+        Name newName = newApplicant.getName();
+        if (applicantBook.hasApplicantWithName(newName)) {
+            applicantBook.setApplicant(applicantBook.getApplicantWithName(newName), newApplicant);
+            if (!replacedName.equals(newName) && applicantBook.hasApplicantWithName(replacedName)) {
+                applicantBook.removeApplicant(applicantBook.getApplicantWithName(replacedName));
+            }
+        } else if (applicantBook.hasApplicantWithName(replacedName)) {
+            applicantBook.setApplicant(applicantBook.getApplicantWithName(replacedName), newApplicant);
+        } else {
+            applicantBook.addApplicant(Math.min(index, applicantBook.getApplicantList().size()), newApplicant);
+        }
+    }
+
+    private Title toModelTitle() throws IllegalValueException {
+        if (key == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Title.class.getSimpleName()));
+        }
+        if (!Title.isValidTitle(key)) {
+            throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
+        }
+        return new Title(key);
+    }
+
+    private Name toModelName() throws IllegalValueException {
+        if (key == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(key)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(key);
+    }
+
+    private Position toModelPosition() throws IllegalValueException {
+        if (position == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Position.class.getSimpleName()));
+        }
+        return position.toModelType();
+    }
+
+    private Applicant toModelApplicant(PositionBook positionBook) throws IllegalValueException {
+        if (applicant == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Applicant.class.getSimpleName()));
+        }
+        return applicant.toModelType(positionBook);
+    }
+}
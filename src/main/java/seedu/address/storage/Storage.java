@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
@@ -27,4 +28,10 @@ public interface Storage extends UserPrefsStorage, PositionBookStorage, Applican
 
     @Override
     void savePositionBook(ReadOnlyPositionBook positionBook) throws IOException;
+
+    /**
+     * Returns the file path of the journal holding the changes to the books since their data files were last
+     * written.
+     */
+    Path getJournalFilePath();
 }
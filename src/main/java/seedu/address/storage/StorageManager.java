@@ -19,6 +19,9 @@ import seedu.address.storage.position.PositionBookStorage;
  */
 public class StorageManager implements Storage {
 
+    /** The name of the journal file, which is kept next to the applicant book data file. */
+    public static final String JOURNAL_FILE_NAME = "bookjournal.log";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private UserPrefsStorage userPrefsStorage;
     private ApplicantBookStorage applicantBookStorage;
@@ -108,4 +111,10 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to applicant book data file: " + filePath);
         applicantBookStorage.saveApplicantBook(applicantBook, filePath);
     }
+
+    // ================ Journal methods ==============================
+    @Override
+    public Path getJournalFilePath() {
+        return applicantBookStorage.getApplicantBookFilePath().resolveSibling(JOURNAL_FILE_NAME);
+    }
 }
@@ -61,6 +61,14 @@ public class JsonAdaptedApplicant {
         this.gitHubUrl = source.getGitHubUrl().url;
     }
 
+    /**
+     * Returns true if the position this applicant applies to is in {@code positionBook}.
+     */
+    public boolean isApplyingToPositionIn(ReadOnlyPositionBook positionBook) {
+        return positionApplyingTo != null && Title.isValidTitle(positionApplyingTo)
+                && positionBook.hasPositionWithTitle(new Title(positionApplyingTo));
+    }
+
     /**
      * Converts this Jackson-friendly adapted applicant object into the model's {@code Applicant} object.
      *
@@ -105,11 +113,11 @@ public class JsonAdaptedApplicant {
                     Position.class.getSimpleName()));
         }
         final Title modelTitle = new Title(positionApplyingTo);
-        final Position modelPosition = positionBook.getPositionList().stream()
-                .filter(position -> position.hasTitle(modelTitle))
-                .findFirst()
-                .orElseThrow(() -> new IllegalValueException(
-                        String.format(MISSING_FIELD_MESSAGE_FORMAT, Position.class.getSimpleName())));
+        if (!positionBook.hasPositionWithTitle(modelTitle)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Position.class.getSimpleName()));
+        }
+        final Position modelPosition = positionBook.getPositionWithTitle(modelTitle);
 
         if (applicationStatus == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -14,6 +16,8 @@ import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyApplicantBook;
 import seedu.address.model.ReadOnlyPositionBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.storage.ConversionPipeline;
 
 /**
  * A class to access ApplicantBook data stored as a json file on the hard disk.
@@ -23,9 +27,19 @@ public class JsonApplicantBookStorage implements ApplicantBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonApplicantBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonApplicantBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a JsonApplicantBookStorage for the file at {@code filePath}, writing the file indented over several lines
+     * if {@code isPrettyPrinted}, or on one line otherwise.
+     */
+    public JsonApplicantBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getApplicantBookFilePath() {
@@ -49,14 +63,17 @@ public class JsonApplicantBookStorage implements ApplicantBookStorage {
         requireNonNull(filePath);
         requireNonNull(positionBook);
 
-        Optional<JsonSerializableApplicantBook> jsonApplicantBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableApplicantBook.class);
-        if (!jsonApplicantBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonApplicantBook.get().toModelType(positionBook));
+        // applicants are converted while the file is still being read, so the file is never held in memory whole
+        List<Applicant> applicants = new ArrayList<>();
+        try (ConversionPipeline<JsonAdaptedApplicant, Applicant> pipeline = new ConversionPipeline<>(
+                jsonAdaptedApplicant -> jsonAdaptedApplicant.toModelType(positionBook), applicants::add)) {
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableApplicantBook.APPLICANTS_FIELD_NAME,
+                    JsonAdaptedApplicant.class, pipeline::accept);
+            if (!isFound) {
+                return Optional.empty();
+            }
+            pipeline.finish();
+            return Optional.of(JsonSerializableApplicantBook.toApplicantBook(applicants));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -78,6 +95,7 @@ public class JsonApplicantBookStorage implements ApplicantBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableApplicantBook(applicantBook), filePath);
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableApplicantBook.APPLICANTS_FIELD_NAME,
+                applicantBook.getApplicantList(), JsonAdaptedApplicant::new, isPrettyPrinted);
     }
 }
@@ -13,6 +13,7 @@ import seedu.address.model.ApplicantBook;
 import seedu.address.model.ReadOnlyApplicantBook;
 import seedu.address.model.ReadOnlyPositionBook;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.exceptions.DuplicateApplicantException;
 
 /**
  * An Immutable ApplicantBook that is serializable to JSON format.
@@ -21,13 +22,16 @@ import seedu.address.model.applicant.Applicant;
 public class JsonSerializableApplicantBook {
     public static final String MESSAGE_DUPLICATE_POSITION = "Applicants list contains duplicate applicant(s).";
 
+    /** The name of the array of applicants in the Json object. */
+    public static final String APPLICANTS_FIELD_NAME = "applicants";
+
     private final List<JsonAdaptedApplicant> applicants = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableApplicantBook} with the given applicants.
      */
     @JsonCreator
-    public JsonSerializableApplicantBook(@JsonProperty("applicants") List<JsonAdaptedApplicant> applicants) {
+    public JsonSerializableApplicantBook(@JsonProperty(APPLICANTS_FIELD_NAME) List<JsonAdaptedApplicant> applicants) {
         this.applicants.addAll(applicants);
     }
 
@@ -48,13 +52,24 @@ public class JsonSerializableApplicantBook {
      * @throws IllegalValueException If there were any data constraints violated.
      */
     public ApplicantBook toModelType(ReadOnlyPositionBook positionBook) throws IllegalValueException {
-        ApplicantBook applicantBook = new ApplicantBook();
+        List<Applicant> modelApplicants = new ArrayList<>(applicants.size());
         for (JsonAdaptedApplicant jsonAdaptedApplicant : applicants) {
-            Applicant applicant = jsonAdaptedApplicant.toModelType(positionBook);
-            if (applicantBook.hasApplicantWithName(applicant.getName())) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_POSITION);
-            }
-            applicantBook.addApplicant(applicant);
+            modelApplicants.add(jsonAdaptedApplicant.toModelType(positionBook));
+        }
+        return toApplicantBook(modelApplicants);
+    }
+
+    /**
+     * Returns an {@code ApplicantBook} holding {@code applicants}, in order.
+     *
+     * @throws IllegalValueException If {@code applicants} has duplicate applicants.
+     */
+    static ApplicantBook toApplicantBook(List<Applicant> applicants) throws IllegalValueException {
+        ApplicantBook applicantBook = new ApplicantBook();
+        try {
+            applicantBook.setApplicants(applicants);
+        } catch (DuplicateApplicantException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_POSITION);
         }
         return applicantBook;
     }
@@ -11,7 +11,7 @@ import seedu.address.model.position.Title;
 /**
  * Jackson-friendly version of {@link Position}.
  */
-class JsonAdaptedPosition {
+public class JsonAdaptedPosition {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Position's %s field is missing!";
 
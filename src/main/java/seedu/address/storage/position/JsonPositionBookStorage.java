@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PositionBook;
 import seedu.address.model.ReadOnlyPositionBook;
 
 /**
@@ -22,9 +23,19 @@ public class JsonPositionBookStorage implements PositionBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonPositionBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonPositionBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a JsonPositionBookStorage for the file at {@code filePath}, writing the file indented over several lines
+     * if {@code isPrettyPrinted}, or on one line otherwise.
+     */
+    public JsonPositionBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getPositionBookFilePath() {
@@ -45,14 +56,13 @@ public class JsonPositionBookStorage implements PositionBookStorage {
     public Optional<ReadOnlyPositionBook> readPositionBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializablePositionBook> jsonPositionBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializablePositionBook.class);
-        if (!jsonPositionBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        // positions are converted while the file is still being read, so the file is never held in memory whole
+        PositionBook positionBook = new PositionBook();
         try {
-            return Optional.of(jsonPositionBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializablePositionBook.POSITIONS_FIELD_NAME,
+                    JsonAdaptedPosition.class, jsonAdaptedPosition ->
+                            JsonSerializablePositionBook.addPosition(positionBook, jsonAdaptedPosition.toModelType()));
+            return isFound ? Optional.of(positionBook) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,6 +84,7 @@ public class JsonPositionBookStorage implements PositionBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializablePositionBook(positionBook), filePath);
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializablePositionBook.POSITIONS_FIELD_NAME,
+                positionBook.getPositionList(), JsonAdaptedPosition::new, isPrettyPrinted);
     }
 }
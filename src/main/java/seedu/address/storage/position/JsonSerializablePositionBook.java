@@ -21,13 +21,16 @@ class JsonSerializablePositionBook {
 
     public static final String MESSAGE_DUPLICATE_POSITION = "Positions list contains duplicate position(s).";
 
+    /** The name of the array of positions in the Json object. */
+    public static final String POSITIONS_FIELD_NAME = "positions";
+
     private final List<JsonAdaptedPosition> positions = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializablePositionBook} with the given positions.
      */
     @JsonCreator
-    public JsonSerializablePositionBook(@JsonProperty("positions") List<JsonAdaptedPosition> positions) {
+    public JsonSerializablePositionBook(@JsonProperty(POSITIONS_FIELD_NAME) List<JsonAdaptedPosition> positions) {
         this.positions.addAll(positions);
     }
 
@@ -49,12 +52,20 @@ class JsonSerializablePositionBook {
     public PositionBook toModelType() throws IllegalValueException {
         PositionBook positionBook = new PositionBook();
         for (JsonAdaptedPosition jsonAdaptedPosition : positions) {
-            Position position = jsonAdaptedPosition.toModelType();
-            if (positionBook.hasPosition(position)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_POSITION);
-            }
-            positionBook.addPosition(position);
+            addPosition(positionBook, jsonAdaptedPosition.toModelType());
         }
         return positionBook;
     }
+
+    /**
+     * Adds {@code position} to {@code positionBook}.
+     *
+     * @throws IllegalValueException If {@code positionBook} already has the position.
+     */
+    static void addPosition(PositionBook positionBook, Position position) throws IllegalValueException {
+        if (positionBook.hasPosition(position)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_POSITION);
+        }
+        positionBook.addPosition(position);
+    }
 }
@@ -1,9 +1,9 @@
 package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -11,9 +11,7 @@ import javafx.collections.ObservableList;
 import javafx.scene.chart.PieChart;
 import javafx.scene.control.Tooltip;
 import seedu.address.commons.util.StringUtil;
-import seedu.address.model.applicant.Applicant;
 import seedu.address.model.applicant.Application.ApplicationStatus;
-import seedu.address.model.applicant.ApplyingToPositionPredicate;
 import seedu.address.model.position.Position;
 
 /**
@@ -24,26 +22,27 @@ public class PositionPieChart extends PieChart {
     private final Position position;
 
     /**
-     * Constructor for a {@code PositionPieChart}, which takes an {@code ObservableList} of applicants
-     * under a specified position.
+     * Constructor for a {@code PositionPieChart}, which takes the number of applicants under a specified position
+     * for each application status.
      */
-    public PositionPieChart(ObservableList<Applicant> applicants, Position position) {
-        super(createPieChart(requireNonNull(applicants)
-                .filtered(new ApplyingToPositionPredicate(requireNonNull(position)))));
-        this.position = position;
+    public PositionPieChart(Map<ApplicationStatus, Integer> applicantCountsByStatus, Position position) {
+        super(createPieChart(requireNonNull(applicantCountsByStatus)));
+        this.position = requireNonNull(position);
         setStyling();
         installTooltips();
     }
 
     /**
-     * Internal method to create a pie chart, given a list of applicants under a single position.
+     * Internal method to create a pie chart, given the applicant counts of a single position.
      */
-    private static ObservableList<PieChart.Data> createPieChart(ObservableList<Applicant> applicantsUnderPosition) {
-        requireNonNull(applicantsUnderPosition);
+    private static ObservableList<PieChart.Data> createPieChart(
+            Map<ApplicationStatus, Integer> applicantCountsByStatus) {
+        requireNonNull(applicantCountsByStatus);
 
-        int applicantCount = applicantsUnderPosition.size();
+        int applicantCount = applicantCountsByStatus.values().stream().mapToInt(Integer::intValue).sum();
         return Arrays.stream(ApplicationStatus.values())
-                .map(status -> createPieChartData(applicantsUnderPosition, applicantCount, status))
+                .map(status -> createPieChartData(applicantCountsByStatus.getOrDefault(status, 0),
+                        applicantCount, status))
                 .filter(pieChartData -> pieChartData.getPieValue() != 0)
                 .collect(Collectors.toCollection(FXCollections::observableArrayList));
     }
@@ -52,11 +51,9 @@ public class PositionPieChart extends PieChart {
      * Internal method to create a {@code PieChart.Data} object from a given application status.
      */
     private static PieChart.Data createPieChartData(
-            ObservableList<Applicant> applicants, int applicantCount, ApplicationStatus status) {
-        requireAllNonNull(applicants, status);
+            int applicantsWithStatusCount, int applicantCount, ApplicationStatus status) {
+        requireNonNull(status);
 
-        int applicantsWithStatusCount = applicants.filtered(applicant ->
-                applicant.hasApplicationStatus(status)).size();
         double percentage = (double) applicantsWithStatusCount * 100 / applicantCount;
 
         return new PieChart.Data(status.toString(), percentage);
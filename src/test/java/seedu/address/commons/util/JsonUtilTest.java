@@ -1,12 +1,17 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +44,24 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayFile_otherFields_onlyArrayElementsRead() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"before\" : { \"values\" : [ 1 ] }, \"values\" : [ 2, 3 ], "
+                + "\"after\" : 4 }");
+        List<Integer> values = new ArrayList<>();
+
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "values", Integer.class, values::add));
+        assertEquals(List.of(2, 3), values);
+    }
+
+    @Test
+    public void readJsonArrayFile_truncatedFile_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"values\" : [ 2, 3");
+
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "values", Integer.class, unused -> {}));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
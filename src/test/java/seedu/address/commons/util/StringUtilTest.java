@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,37 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getBoundedEditDistance --------------------------------------
+
+    @Test
+    public void getBoundedEditDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getBoundedEditDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.getBoundedEditDistance("abc", null, 1));
+    }
+
+    @Test
+    public void getBoundedEditDistance_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getBoundedEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void getBoundedEditDistance_validInputs_correctResult() {
+
+        // Within the bound
+        assertEquals(0, StringUtil.getBoundedEditDistance("", "", 0)); // Boundary case
+        assertEquals(0, StringUtil.getBoundedEditDistance("hans", "hans", 0));
+        assertEquals(1, StringUtil.getBoundedEditDistance("hans", "hanz", 1)); // Substitution
+        assertEquals(1, StringUtil.getBoundedEditDistance("hans", "hanss", 2)); // Insertion
+        assertEquals(1, StringUtil.getBoundedEditDistance("hans", "has", 2)); // Deletion
+        assertEquals(2, StringUtil.getBoundedEditDistance("hans", "ahns", 2)); // Transposition
+        assertEquals(3, StringUtil.getBoundedEditDistance("kitten", "sitting", 3)); // Distance equals the bound
+
+        // Beyond the bound
+        assertEquals(2, StringUtil.getBoundedEditDistance("kitten", "sitting", 1));
+        assertEquals(3, StringUtil.getBoundedEditDistance("hans", "bob", 2));
+        assertEquals(2, StringUtil.getBoundedEditDistance("", "abcdef", 1)); // Lengths differ by more than the bound
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_POSITION_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.DESCRIPTION_DESC_DATAENGINEER;
@@ -9,7 +11,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPositions.DATAENGINEER;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,11 +25,14 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListPositionCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ApplicantBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.PositionBook;
 import seedu.address.model.ReadOnlyApplicantBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.position.Position;
+import seedu.address.storage.BookJournal;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.applicant.JsonApplicantBookStorage;
@@ -71,7 +79,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void flush_storageThrowsIoException_failureReported() throws Exception {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
         JsonApplicantBookStorage applicantBookStorage =
                 new JsonApplicantBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionApplicantBook.json"));
@@ -82,15 +90,51 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(userPrefsStorage,
                 applicantBookStorage, positionBookStorage);
         logic = new LogicManager(model, storage);
+        List<String> failureMessages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(failureMessages::add);
 
-        // Execute add position command
+        // Execute add position command, which succeeds before the books are saved
         String addPositionCommand = AddPositionCommand.COMMAND_WORD + TITLE_DESC_DATAENGINEER
                 + DESCRIPTION_DESC_DATAENGINEER;
         Position expectedPosition = DATAENGINEER.getCopiedPosition();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPosition(expectedPosition);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addPositionCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addPositionCommand,
+                String.format(AddPositionCommand.MESSAGE_SUCCESS, expectedPosition), expectedModel);
+
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> logic.flush());
+        assertEquals(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, failureMessages.get(0));
+    }
+
+    @Test
+    public void execute_afterFirstCommand_changesAppendedToJournal() throws Exception {
+        Path positionBookFile = temporaryFolder.resolve("positionBook.json");
+        Path applicantBookFile = temporaryFolder.resolve("applicantBook.json");
+        BookJournal journal = new BookJournal(temporaryFolder.resolve(StorageManager.JOURNAL_FILE_NAME));
+
+        // both books are checkpointed after the first command
+        logic.execute(ListPositionCommand.COMMAND_WORD);
+        logic.flush();
+        assertTrue(Files.exists(positionBookFile));
+        assertTrue(Files.exists(applicantBookFile));
+        assertFalse(journal.hasRecords());
+
+        Files.delete(positionBookFile);
+        Files.delete(applicantBookFile);
+        logic.execute(ListPositionCommand.COMMAND_WORD);
+        logic.flush();
+        assertFalse(Files.exists(positionBookFile));
+        assertFalse(Files.exists(applicantBookFile));
+        assertFalse(journal.hasRecords());
+
+        // the added position is only appended to the journal
+        logic.execute(AddPositionCommand.COMMAND_WORD + TITLE_DESC_DATAENGINEER + DESCRIPTION_DESC_DATAENGINEER);
+        logic.flush();
+        assertFalse(Files.exists(positionBookFile));
+        assertFalse(Files.exists(applicantBookFile));
+        PositionBook positionBook = new PositionBook();
+        journal.replay(positionBook, new ApplicantBook());
+        assertEquals(model.getPositionBook(), positionBook);
     }
 
     @Test
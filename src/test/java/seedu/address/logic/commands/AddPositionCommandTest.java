@@ -12,7 +12,6 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.Model;
 import seedu.address.model.position.Position;
 import seedu.address.testutil.PositionBuilder;
 
@@ -107,11 +106,6 @@ public class AddPositionCommandTest {
             positionsAdded.add(position);
         }
 
-        @Override
-        public Model getCopiedModel() {
-            return this;
-        }
-
         @Override
         public void addToHistory(Command command) {}
 
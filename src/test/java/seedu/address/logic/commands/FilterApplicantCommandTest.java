@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.FILTER_DESC_FULL;
 import static seedu.address.logic.commands.CommandTestUtil.FILTER_DESC_PARTIAL;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_FILTER_TITLE_DATAMINER;
@@ -11,11 +12,15 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPLICANTS;
 import static seedu.address.model.applicant.Application.ApplicationStatus;
+import static seedu.address.testutil.TypicalApplicants.BENSON;
+import static seedu.address.testutil.TypicalApplicants.DANIEL;
 import static seedu.address.testutil.TypicalApplicants.getTypicalApplicantBook;
 import static seedu.address.testutil.TypicalPositions.DATAENGINEER;
 import static seedu.address.testutil.TypicalPositions.DATASCIENTIST;
 import static seedu.address.testutil.TypicalPositions.getTypicalPositionBook;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.descriptors.FilterApplicantDescriptor;
@@ -24,6 +29,14 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.PositionBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.filter.AddressFilter;
+import seedu.address.model.applicant.filter.AndExpression;
+import seedu.address.model.applicant.filter.FilterExpression;
+import seedu.address.model.applicant.filter.NameFilter;
+import seedu.address.model.applicant.filter.NotExpression;
+import seedu.address.model.applicant.filter.OrExpression;
+import seedu.address.model.applicant.filter.PositionFilter;
+import seedu.address.model.position.Title;
 import seedu.address.testutil.FilterApplicantDescriptorBuilder;
 
 /**
@@ -109,6 +122,52 @@ public class FilterApplicantCommandTest {
         assertCommandFailure(filterApplicantCommand, model, expectedMessage);
     }
 
+    @Test
+    public void execute_expressionSpecified_success() {
+        // applicants to the data engineer position or named Meier, except those living on a street
+        FilterExpression expression = new AndExpression(Arrays.asList(
+                new OrExpression(Arrays.asList(
+                        new PositionFilter(new Title(VALID_TITLE_DATAENGINEER)), new NameFilter("meier"))),
+                new NotExpression(new AddressFilter("street"))));
+        FilterApplicantCommand filterApplicantCommand = new FilterApplicantCommand(expression);
+
+        String expectedMessage = String.format(FilterApplicantCommand.MESSAGE_SUCCESS,
+                "(Position: Data Engineer OR Name: meier) AND NOT Address: street");
+
+        Model expectedModel = new ModelManager(
+                new PositionBook(model.getPositionBook()),
+                new ApplicantBook(model.getApplicantBook()),
+                new UserPrefs());
+        expectedModel.updateFilteredApplicantList(applicant -> applicant.equals(BENSON));
+
+        assertCommandSuccess(filterApplicantCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidPositionInExpression_failure() {
+        FilterExpression expression = new OrExpression(Arrays.asList(
+                new PositionFilter(new Title(VALID_TITLE_DATAENGINEER)),
+                new NotExpression(new PositionFilter(new Title(INVALID_FILTER_TITLE_DATAMINER)))));
+        FilterApplicantDescriptor invalidFilterDescriptor = new FilterApplicantDescriptorBuilder()
+                .withPositionTitle(INVALID_FILTER_TITLE_DATAMINER)
+                .build();
+
+        String expectedMessage = String.format(FilterApplicantCommand.MESSAGE_INVALID_FILTER, invalidFilterDescriptor);
+
+        assertCommandFailure(new FilterApplicantCommand(expression), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_applicantMarkedAfterFilter_stillDisplayed() throws Exception {
+        FilterExpression expression = new PositionFilter(new Title(VALID_TITLE_DATAENGINEER));
+        new FilterApplicantCommand(expression).execute(model);
+        assertEquals(2, model.getFilteredApplicantList().size());
+
+        new MarkApplicantStatusCommand(DANIEL.getName(), ApplicationStatus.ACCEPTED).execute(model);
+        assertEquals(2, model.getFilteredApplicantList().size());
+        assertTrue(model.getFilteredApplicantList().contains(model.getApplicantWithName(DANIEL.getName())));
+    }
+
     @Test
     public void equals() {
         final FilterApplicantCommand standardCommand = new FilterApplicantCommand(FILTER_DESC_FULL);
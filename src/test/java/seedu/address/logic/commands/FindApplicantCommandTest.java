@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalApplicants.BENSON;
+import static seedu.address.testutil.TypicalApplicants.DANIEL;
+import static seedu.address.testutil.TypicalApplicants.ELLE;
+import static seedu.address.testutil.TypicalApplicants.getTypicalApplicantBook;
+import static seedu.address.testutil.TypicalPositions.getTypicalPositionBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Application.ApplicationStatus;
+import seedu.address.model.applicant.NameContainsKeywordsPredicate;
+import seedu.address.model.applicant.NameSimilarToKeywordsPredicate;
+import seedu.address.testutil.ApplicantBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for FindApplicantCommand.
+ */
+public class FindApplicantCommandTest {
+
+    private Model model = new ModelManager(getTypicalApplicantBook(), getTypicalPositionBook(), new UserPrefs());
+
+    @Test
+    public void execute_applicantMarkedAfterFind_stillDisplayed() throws Exception {
+        new FindApplicantCommand(new NameContainsKeywordsPredicate(Collections.singletonList("Meier"))).execute(model);
+        assertEquals(2, model.getFilteredApplicantList().size());
+
+        new MarkApplicantStatusCommand(BENSON.getName(), ApplicationStatus.ACCEPTED).execute(model);
+        Applicant markedApplicant = model.getApplicantWithName(BENSON.getName());
+        assertEquals(2, model.getFilteredApplicantList().size());
+        assertTrue(model.getFilteredApplicantList().contains(markedApplicant));
+    }
+
+    @Test
+    public void execute_applicantRenamedAfterFind_noLongerDisplayed() {
+        new FindApplicantCommand(new NameContainsKeywordsPredicate(Collections.singletonList("Meier"))).execute(model);
+
+        Applicant renamedApplicant = new ApplicantBuilder(DANIEL).withName("Daniel Maier").build();
+        model.setApplicant(DANIEL, renamedApplicant);
+        assertEquals(1, model.getFilteredApplicantList().size());
+        assertFalse(model.getFilteredApplicantList().contains(renamedApplicant));
+    }
+
+    @Test
+    public void execute_applicantMarkedAfterFuzzyFind_stillDisplayedInOrder() throws Exception {
+        new FindApplicantCommand(new NameSimilarToKeywordsPredicate(Collections.singletonList("Meier")))
+                .execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredApplicantList());
+
+        // the typo in Meyer still lists it after the exact matches
+        new MarkApplicantStatusCommand(ELLE.getName(), ApplicationStatus.ACCEPTED).execute(model);
+        Applicant markedApplicant = model.getApplicantWithName(ELLE.getName());
+        assertEquals(Arrays.asList(BENSON, DANIEL, markedApplicant), model.getFilteredApplicantList());
+    }
+}
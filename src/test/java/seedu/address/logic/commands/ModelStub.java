@@ -1,20 +1,27 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.logic.commands.memento.Memento;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyApplicantBook;
 import seedu.address.model.ReadOnlyPositionBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.applicant.Applicant;
 import seedu.address.model.applicant.ApplicantParticulars;
+import seedu.address.model.applicant.Application.ApplicationStatus;
 import seedu.address.model.applicant.Name;
+import seedu.address.model.applicant.filter.FilterExpression;
 import seedu.address.model.position.Position;
 import seedu.address.model.position.Title;
+import seedu.address.model.util.QueryCacheStatistics;
 
 
 
@@ -58,6 +65,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public int countApplicantsApplyingTo(Position position) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int countApplicantsWithStatus(Position position, ApplicationStatus applicationStatus) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addApplicant(Applicant applicant) {
         throw new AssertionError("This method should not be called.");
@@ -68,6 +85,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Set<Applicant> getApplicantsWithNameContainingAnyOf(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Map<Applicant, Integer> getApplicantsWithNameSimilarTo(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Applicant> getApplicantsMatching(FilterExpression expression) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryCacheStatistics getApplicantQueryCacheStatistics() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Path getApplicantBookFilePath() {
         throw new AssertionError("This method should not be called.");
@@ -100,6 +137,17 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredApplicantList(Predicate<Applicant> predicate, Collection<Applicant> matchingApplicants) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredApplicantList(Predicate<Applicant> predicate, Collection<Applicant> matchingApplicants,
+                                            Comparator<Applicant> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Applicant> getFilteredApplicantList() {
         throw new AssertionError("This method should not be called.");
@@ -110,6 +158,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredApplicantList(Predicate<Applicant> predicate, Comparator<Applicant> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void saveApplicantView(String name, Predicate<Applicant> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasApplicantView(String name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void showApplicantView(String name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setPositionBook(ReadOnlyPositionBook positionBook) {
         throw new AssertionError("This method should not be called.");
@@ -155,6 +223,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredPositionList(Predicate<Position> predicate, Comparator<Position> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Position> searchPositions(Collection<String> keywords, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public float calculateRejectionRate(Title p) {
         throw new AssertionError("This method should not be called.");
@@ -174,7 +252,12 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public Model getCopiedModel() {
+    public void beginBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitBatch() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -183,6 +266,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void revertPendingChanges() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasHistory() {
         throw new AssertionError("This method should not be called.");
@@ -194,7 +282,12 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public String resetData(Memento memento) {
+    public boolean hasUndoneHistory() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public String redoHistory() {
         throw new AssertionError("This method should not be called.");
     }
 }
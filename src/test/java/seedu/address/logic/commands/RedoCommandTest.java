@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalApplicants.ALICE;
+import static seedu.address.testutil.TypicalApplicants.getTypicalApplicantBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_POSITION;
+import static seedu.address.testutil.TypicalPositions.getTypicalPositionBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.Application.ApplicationStatus;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RedoCommand}.
+ */
+public class RedoCommandTest {
+
+    private static final String MESSAGE_NO_UNDONE_HISTORY = "Cannot redo because there is no undone modification.";
+
+    private Model model = new ModelManager(getTypicalApplicantBook(), getTypicalPositionBook(), new UserPrefs());
+
+    @Test
+    public void execute_noUndoneHistory_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, MESSAGE_NO_UNDONE_HISTORY);
+    }
+
+    @Test
+    public void execute_afterUndo_modificationReapplied() throws CommandException {
+        CommandResult deleteResult = new DeletePositionCommand(INDEX_FIRST_POSITION).execute(model);
+        Model modelAfterDelete = new ModelManager(model.getApplicantBook(), model.getPositionBook(), new UserPrefs());
+        new UndoCommand().execute(model);
+
+        assertCommandSuccess(new RedoCommand(), model,
+                RedoCommand.MESSAGE_SUCCESS + deleteResult.getFeedbackToUser(), modelAfterDelete);
+        assertCommandFailure(new RedoCommand(), model, MESSAGE_NO_UNDONE_HISTORY);
+    }
+
+    @Test
+    public void execute_newModificationAfterUndo_throwsCommandException() throws CommandException {
+        new DeletePositionCommand(INDEX_FIRST_POSITION).execute(model);
+        new UndoCommand().execute(model);
+        new MarkApplicantStatusCommand(ALICE.getName(), ApplicationStatus.REJECTED).execute(model);
+
+        assertCommandFailure(new RedoCommand(), model, MESSAGE_NO_UNDONE_HISTORY);
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalApplicants.ALICE;
+import static seedu.address.testutil.TypicalApplicants.BOB;
+import static seedu.address.testutil.TypicalApplicants.getTypicalApplicantBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_APPLICANT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_POSITION;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_POSITION;
+import static seedu.address.testutil.TypicalPositions.SOFTWAREARCHITECT;
+import static seedu.address.testutil.TypicalPositions.getTypicalPositionBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.Application.ApplicationStatus;
+import seedu.address.model.position.Position;
+import seedu.address.testutil.ApplicantBuilder;
+import seedu.address.testutil.EditPositionDescriptorBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UndoCommand}.
+ */
+public class UndoCommandTest {
+
+    private Model model = new ModelManager(getTypicalApplicantBook(), getTypicalPositionBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(model.getApplicantBook(), model.getPositionBook(),
+            new UserPrefs());
+
+    @Test
+    public void execute_noHistory_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, "Cannot undo because there is no record.");
+    }
+
+    @Test
+    public void execute_afterDeletePosition_positionAndApplicantsRestoredInOrder() throws CommandException {
+        Position positionToDelete = model.getFilteredPositionList().get(INDEX_FIRST_POSITION.getZeroBased());
+        new DeletePositionCommand(INDEX_FIRST_POSITION).execute(model);
+
+        String expectedMessage = UndoCommand.MESSAGE_SUCCESS
+                + String.format(DeletePositionCommand.MESSAGE_DELETE_POSITION_SUCCESS, positionToDelete);
+        assertCommandSuccess(new UndoCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_multipleModifications_undoneLatestFirst() throws CommandException {
+        new MarkApplicantStatusCommand(ALICE.getName(), ApplicationStatus.ACCEPTED).execute(model);
+        Model modelAfterMark = new ModelManager(model.getApplicantBook(), model.getPositionBook(), new UserPrefs());
+        CommandResult deleteResult = new DeletePositionCommand(INDEX_FIRST_POSITION).execute(model);
+
+        assertCommandSuccess(new UndoCommand(), model,
+                UndoCommand.MESSAGE_SUCCESS + deleteResult.getFeedbackToUser(), modelAfterMark);
+        new UndoCommand().execute(model);
+        assertCommandFailure(new UndoCommand(), model, "Cannot undo because there is no record.");
+    }
+
+    @Test
+    public void execute_undoAllModifications_exactPriorStateRestored() throws CommandException {
+        new AddPositionCommand(SOFTWAREARCHITECT).execute(model);
+        new AddApplicantCommand(new ApplicantBuilder(BOB).withPosition(SOFTWAREARCHITECT).getParticulars())
+                .execute(model);
+        new MarkApplicantStatusCommand(ALICE.getName(), ApplicationStatus.REJECTED).execute(model);
+        new EditPositionCommand(INDEX_FIRST_POSITION,
+                new EditPositionDescriptorBuilder().withTitle("Data Analyst").build()).execute(model);
+        new DeleteApplicantCommand(INDEX_FIRST_APPLICANT).execute(model);
+        new DeletePositionCommand(INDEX_SECOND_POSITION).execute(model);
+
+        for (int i = 0; i < 6; i++) {
+            new UndoCommand().execute(model);
+        }
+        assertEquals(expectedModel, model);
+        assertEquals(expectedModel.getApplicantBook().getApplicantList(), model.getApplicantBook().getApplicantList());
+        assertCommandFailure(new UndoCommand(), model, "Cannot undo because there is no record.");
+    }
+}
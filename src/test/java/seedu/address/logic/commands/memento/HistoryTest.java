@@ -0,0 +1,91 @@
+package seedu.address.logic.commands.memento;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.HistorySettings;
+
+public class HistoryTest {
+
+    private static Memento createMemento(int recordCount) {
+        Memento memento = new Memento();
+        memento.record(new ModelChange(() -> {}, () -> {}, recordCount));
+        return memento;
+    }
+
+    @Test
+    public void add_moreEntriesThanLimit_oldestEvicted() {
+        History history = new History(new HistorySettings(2, 100));
+        Memento first = createMemento(1);
+        Memento second = createMemento(1);
+        Memento third = createMemento(1);
+        history.add(first);
+        history.add(second);
+        history.add(third);
+
+        assertSame(third, history.recoverHistory());
+        assertSame(second, history.recoverHistory());
+        assertFalse(history.hasHistory());
+    }
+
+    @Test
+    public void add_moreRecordsThanLimit_oldestEvicted() {
+        History history = new History(new HistorySettings(100, 10));
+        history.add(createMemento(6));
+        history.add(createMemento(6));
+
+        assertEquals(6, history.getRecordCount());
+        history.recoverHistory();
+        assertFalse(history.hasHistory());
+    }
+
+    @Test
+    public void add_latestEntryOverRecordLimit_latestEntryKept() {
+        History history = new History(new HistorySettings(100, 10));
+        Memento large = createMemento(20);
+        history.add(large);
+
+        assertSame(large, history.recoverHistory());
+    }
+
+    @Test
+    public void redoHistory_afterRecoverHistory_returnsUndoneMemento() {
+        History history = new History();
+        Memento memento = createMemento(1);
+        history.add(memento);
+
+        assertSame(memento, history.recoverHistory());
+        assertTrue(history.hasUndoneHistory());
+        assertSame(memento, history.redoHistory());
+        assertFalse(history.hasUndoneHistory());
+        assertTrue(history.hasHistory());
+    }
+
+    @Test
+    public void add_afterRecoverHistory_undoneHistoryDiscarded() {
+        History history = new History();
+        history.add(createMemento(3));
+        history.recoverHistory();
+        history.add(createMemento(1));
+
+        assertFalse(history.hasUndoneHistory());
+        assertEquals(1, history.getRecordCount());
+    }
+
+    @Test
+    public void undo_multipleChanges_revertedInReverseOrder() {
+        StringBuilder log = new StringBuilder();
+        Memento memento = new Memento();
+        memento.record(new ModelChange(() -> log.append("a"), () -> log.append("A"), 1));
+        memento.record(new ModelChange(() -> log.append("b"), () -> log.append("B"), 1));
+
+        memento.undo();
+        memento.redo();
+        assertEquals("baAB", log.toString());
+        assertEquals(2, memento.getRecordCount());
+    }
+}
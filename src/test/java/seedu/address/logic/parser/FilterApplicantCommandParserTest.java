@@ -0,0 +1,108 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterApplicantCommand;
+import seedu.address.model.applicant.Application.ApplicationStatus;
+import seedu.address.model.applicant.filter.AddressFilter;
+import seedu.address.model.applicant.filter.AndExpression;
+import seedu.address.model.applicant.filter.EmailDomainFilter;
+import seedu.address.model.applicant.filter.NameFilter;
+import seedu.address.model.applicant.filter.NotExpression;
+import seedu.address.model.applicant.filter.OrExpression;
+import seedu.address.model.applicant.filter.PositionFilter;
+import seedu.address.model.applicant.filter.StatusFilter;
+import seedu.address.model.position.Title;
+import seedu.address.testutil.FilterApplicantDescriptorBuilder;
+
+public class FilterApplicantCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterApplicantCommand.MESSAGE_USAGE);
+
+    private FilterApplicantCommandParser parser = new FilterApplicantCommandParser();
+
+    @Test
+    public void parse_positionAndStatus_returnsDescriptorCommand() {
+        FilterApplicantCommand expectedCommand = new FilterApplicantCommand(new FilterApplicantDescriptorBuilder()
+                .withPositionTitle("software engineer").withApplicationStatus(ApplicationStatus.PENDING).build());
+        assertParseSuccess(parser, " pos/software engineer status/pending", expectedCommand);
+
+        // explicit AND
+        assertParseSuccess(parser, " pos/software engineer AND status/pending", expectedCommand);
+    }
+
+    @Test
+    public void parse_operators_returnsExpressionCommand() {
+        PositionFilter softwareEngineer = new PositionFilter(new Title("software engineer"));
+        PositionFilter dataScientist = new PositionFilter(new Title("data scientist"));
+        StatusFilter rejected = new StatusFilter(ApplicationStatus.REJECTED);
+
+        // AND binds tighter than OR
+        FilterApplicantCommand expectedCommand = new FilterApplicantCommand(new OrExpression(Arrays.asList(
+                softwareEngineer, new AndExpression(Arrays.asList(dataScientist, new NotExpression(rejected))))));
+        assertParseSuccess(parser, " pos/software engineer OR pos/data scientist AND NOT status/rejected",
+                expectedCommand);
+
+        // parentheses
+        expectedCommand = new FilterApplicantCommand(new AndExpression(Arrays.asList(
+                new OrExpression(Arrays.asList(softwareEngineer, dataScientist)), new NotExpression(rejected))));
+        assertParseSuccess(parser, " (pos/software engineer OR pos/data scientist) NOT status/rejected",
+                expectedCommand);
+        assertParseSuccess(parser, " ( pos/software engineer OR pos/data scientist ) AND NOT (status/rejected)",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_operatorWordsInPositionTitle_partOfTitle() {
+        FilterApplicantCommand expectedCommand = new FilterApplicantCommand(new FilterApplicantDescriptorBuilder()
+                .withPositionTitle("Research AND Development").build());
+        assertParseSuccess(parser, " pos/Research AND Development", expectedCommand);
+
+        // operator words followed by criteria are still operators
+        expectedCommand = new FilterApplicantCommand(new OrExpression(Arrays.asList(
+                new PositionFilter(new Title("Research AND Development")),
+                new NotExpression(new PositionFilter(new Title("Sales OR Marketing"))))));
+        assertParseSuccess(parser, " pos/Research AND Development OR NOT pos/Sales OR Marketing", expectedCommand);
+    }
+
+    @Test
+    public void parse_fieldMatches_returnsExpressionCommand() {
+        FilterApplicantCommand expectedCommand = new FilterApplicantCommand(new AndExpression(Arrays.asList(
+                new AndExpression(Arrays.asList(new NameFilter("alice"), new NameFilter("pauline"))),
+                new EmailDomainFilter("example.com"),
+                new AddressFilter("jurong"))));
+        assertParseSuccess(parser, " n/alice pauline e/@example.com a/jurong", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsParseException() {
+        // no criteria
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+
+        // text before the first criterion
+        assertParseFailure(parser, " software engineer", MESSAGE_INVALID_FORMAT);
+
+        // missing operand
+        assertParseFailure(parser, " pos/software engineer OR", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " NOT", MESSAGE_INVALID_FORMAT);
+
+        // unbalanced parentheses
+        assertParseFailure(parser, " (pos/software engineer", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " pos/software engineer)", MESSAGE_INVALID_FORMAT);
+
+        // criterion without a value
+        assertParseFailure(parser, " n/ OR status/pending", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidStatus_throwsParseException() {
+        assertParseFailure(parser, " pos/software engineer OR status/unknown", ApplicationStatus.MESSAGE_CONSTRAINTS);
+    }
+}
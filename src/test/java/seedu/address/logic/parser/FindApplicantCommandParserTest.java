@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindApplicantCommand;
+import seedu.address.model.applicant.NameContainsKeywordsPredicate;
+import seedu.address.model.applicant.NameSimilarToKeywordsPredicate;
+
+public class FindApplicantCommandParserTest {
+
+    private FindApplicantCommandParser parser = new FindApplicantCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindApplicantCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " -f ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindApplicantCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindApplicantCommand() {
+        FindApplicantCommand expectedCommand =
+                new FindApplicantCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+        assertParseSuccess(parser, "Alice Bob", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedCommand);
+    }
+
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindApplicantCommand() {
+        FindApplicantCommand expectedCommand =
+                new FindApplicantCommand(new NameSimilarToKeywordsPredicate(Arrays.asList("Alise", "Bobb")));
+        assertParseSuccess(parser, "-f Alise Bobb", expectedCommand);
+    }
+}
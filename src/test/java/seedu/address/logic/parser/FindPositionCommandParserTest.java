@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindPositionCommand;
+
+public class FindPositionCommandParserTest {
+
+    private FindPositionCommandParser parser = new FindPositionCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindPositionCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindPositionCommand() {
+        FindPositionCommand expectedCommand = new FindPositionCommand(Arrays.asList("machine", "learning"));
+        assertParseSuccess(parser, "machine learning", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n machine \n \t learning  \t", expectedCommand);
+    }
+}
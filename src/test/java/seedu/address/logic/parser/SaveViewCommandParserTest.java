@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SaveViewCommand;
+import seedu.address.model.applicant.Application.ApplicationStatus;
+import seedu.address.model.applicant.filter.AndExpression;
+import seedu.address.model.applicant.filter.NotExpression;
+import seedu.address.model.applicant.filter.PositionFilter;
+import seedu.address.model.applicant.filter.StatusFilter;
+import seedu.address.model.position.Title;
+
+public class SaveViewCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE);
+
+    private SaveViewCommandParser parser = new SaveViewCommandParser();
+
+    @Test
+    public void parse_nameAndCriteria_returnsSaveViewCommand() {
+        SaveViewCommand expectedCommand = new SaveViewCommand("pending backend engineers",
+                new AndExpression(Arrays.asList(new PositionFilter(new Title("backend engineer")),
+                        new StatusFilter(ApplicationStatus.PENDING))));
+        assertParseSuccess(parser, " pending backend engineers pos/backend engineer status/pending", expectedCommand);
+
+        // multiple whitespaces in the name
+        assertParseSuccess(parser, " \n pending \t backend  engineers pos/backend engineer status/pending",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_criteriaStartingWithNot_returnsSaveViewCommand() {
+        SaveViewCommand expectedCommand = new SaveViewCommand("open",
+                new NotExpression(new StatusFilter(ApplicationStatus.REJECTED)));
+        assertParseSuccess(parser, " open NOT status/rejected", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingNameOrCriteria_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " pos/backend engineer", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " pending backend engineers", MESSAGE_INVALID_FORMAT);
+    }
+}
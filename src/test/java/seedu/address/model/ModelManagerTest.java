@@ -2,18 +2,29 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalApplicants.ALICE;
+import static seedu.address.testutil.TypicalApplicants.BOB;
 import static seedu.address.testutil.TypicalPositions.DATAENGINEER;
 import static seedu.address.testutil.TypicalPositions.DATASCIENTIST;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.AddPositionCommand;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Application.ApplicationStatus;
+import seedu.address.model.position.Position;
 import seedu.address.model.position.TitleContainsAllKeywordsPredicate;
+import seedu.address.model.util.QueryCacheStatistics;
+import seedu.address.testutil.ApplicantBuilder;
 import seedu.address.testutil.PositionBookBuilder;
 
 public class ModelManagerTest {
@@ -80,6 +91,103 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPositionList().remove(0));
     }
 
+    @Test
+    public void revertPendingChanges_commandFailedPartway_changesRevertedAndNotUndoneLater() throws Exception {
+        new AddPositionCommand(DATAENGINEER).execute(modelManager);
+
+        // a command that fails after adding a position
+        modelManager.addPosition(DATASCIENTIST);
+        modelManager.revertPendingChanges();
+        assertFalse(modelManager.hasPosition(DATASCIENTIST));
+
+        modelManager.recoverHistory();
+        assertFalse(modelManager.hasPosition(DATAENGINEER));
+        assertFalse(modelManager.hasHistory());
+    }
+
+    @Test
+    public void addApplicant_equalPosition_sharesPositionInstance() {
+        modelManager.addPosition(DATASCIENTIST);
+        Position copiedPosition = DATASCIENTIST.getCopiedPosition();
+        modelManager.addApplicant(new ApplicantBuilder(ALICE).withPosition(copiedPosition).build());
+
+        Applicant addedApplicant = modelManager.getApplicantBook().getApplicantList().get(0);
+        assertEquals(ALICE, addedApplicant);
+        assertSame(DATASCIENTIST, addedApplicant.getApplication().getPosition());
+    }
+
+    @Test
+    public void constructor_applicantsWithEqualPositions_sharePositionInstance() {
+        ApplicantBook applicantBook = new ApplicantBook();
+        applicantBook.addApplicant(new ApplicantBuilder(ALICE).withPosition(DATASCIENTIST.getCopiedPosition()).build());
+        applicantBook.addApplicant(new ApplicantBuilder(BOB).withPosition(DATASCIENTIST.getCopiedPosition()).build());
+        PositionBook positionBook = new PositionBookBuilder().withPosition(DATASCIENTIST).build();
+
+        ModelManager model = new ModelManager(applicantBook, positionBook, new UserPrefs());
+        for (Applicant applicant : model.getApplicantBook().getApplicantList()) {
+            assertSame(model.getPositionBook().getPositionList().get(0), applicant.getApplication().getPosition());
+        }
+    }
+
+    @Test
+    public void updateFilteredApplicantList_withComparator_ordersUntilNextFilter() {
+        modelManager.addPosition(DATASCIENTIST);
+        modelManager.addApplicant(ALICE);
+        modelManager.addApplicant(new ApplicantBuilder(BOB).withPosition(DATASCIENTIST).build());
+        Comparator<Applicant> byName = Comparator.comparing(applicant -> applicant.getName().fullName);
+
+        modelManager.updateFilteredApplicantList(Model.PREDICATE_SHOW_ALL_APPLICANTS, byName.reversed());
+        assertEquals(BOB.getName(), modelManager.getFilteredApplicantList().get(0).getName());
+
+        modelManager.updateFilteredApplicantList(Model.PREDICATE_SHOW_ALL_APPLICANTS);
+        assertEquals(ALICE, modelManager.getFilteredApplicantList().get(0));
+    }
+
+    @Test
+    public void getApplicantsWithNameContainingAnyOf_repeatedQuery_servedFromCacheUntilChange() {
+        modelManager.addPosition(DATASCIENTIST);
+        modelManager.addApplicant(ALICE);
+        QueryCacheStatistics cache = modelManager.getApplicantQueryCacheStatistics();
+
+        assertEquals(Set.of(ALICE), modelManager.getApplicantsWithNameContainingAnyOf(Arrays.asList("alice", "bob")));
+        // same keywords in another case and order
+        assertEquals(Set.of(ALICE), modelManager.getApplicantsWithNameContainingAnyOf(Arrays.asList("Bob", "ALICE")));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+
+        Applicant bob = new ApplicantBuilder(BOB).withPosition(DATASCIENTIST).build();
+        modelManager.addApplicant(bob);
+        assertEquals(Set.of(ALICE, bob),
+                modelManager.getApplicantsWithNameContainingAnyOf(Arrays.asList("alice", "bob")));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void showApplicantView_applicantsChanged_viewKeptUpToDate() {
+        modelManager.addPosition(DATASCIENTIST);
+        modelManager.addApplicant(ALICE);
+        modelManager.saveApplicantView("Pending  Data Scientists", applicant ->
+                applicant.hasApplicationStatus(ApplicationStatus.PENDING));
+        assertTrue(modelManager.hasApplicantView("pending data scientists"));
+        assertFalse(modelManager.hasApplicantView("pending"));
+
+        modelManager.showApplicantView("pending data scientists");
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredApplicantList());
+
+        // adding an applicant shows all applicants, but the view still follows the applicants added and marked
+        Applicant bob = new ApplicantBuilder(BOB).withPosition(DATASCIENTIST).build();
+        modelManager.addApplicant(bob);
+        assertEquals(2, modelManager.getFilteredApplicantList().size());
+        modelManager.setApplicant(ALICE, ALICE.markAs(ApplicationStatus.REJECTED));
+        modelManager.showApplicantView("Pending Data Scientists");
+        assertEquals(Arrays.asList(bob), modelManager.getFilteredApplicantList());
+    }
+
+    @Test
+    public void showApplicantView_missingView_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> modelManager.showApplicantView("pending"));
+    }
+
     @Test
     public void equals() {
 
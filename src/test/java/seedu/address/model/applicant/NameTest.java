@@ -1,5 +1,6 @@
 package seedu.address.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -37,4 +38,20 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void equals() {
+        Name name = new Name("Peter Jack");
+
+        // different case -> returns true, with the same hash code
+        Name upperCaseName = new Name("PETER JACK");
+        assertTrue(name.equals(upperCaseName));
+        assertEquals(name.hashCode(), upperCaseName.hashCode());
+
+        // different name -> returns false
+        assertFalse(name.equals(new Name("Peter Jackson")));
+
+        // null -> returns false
+        assertFalse(name.equals(null));
+    }
+
 }
@@ -1,27 +1,55 @@
 package seedu.address.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalApplicants.ALICE;
 import static seedu.address.testutil.TypicalApplicants.BOB;
+import static seedu.address.testutil.TypicalApplicants.CARL;
+import static seedu.address.testutil.TypicalPositions.DATAENGINEER;
+import static seedu.address.testutil.TypicalPositions.DATASCIENTIST;
+import static seedu.address.testutil.TypicalPositions.SOFTWAREARCHITECT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.applicant.Application.ApplicationStatus;
 import seedu.address.model.applicant.exceptions.ApplicantNotFoundException;
 import seedu.address.model.applicant.exceptions.DuplicateApplicantException;
+import seedu.address.model.applicant.filter.AndExpression;
+import seedu.address.model.applicant.filter.FilterExpression;
+import seedu.address.model.applicant.filter.NameFilter;
+import seedu.address.model.applicant.filter.OrExpression;
+import seedu.address.model.applicant.filter.PositionFilter;
+import seedu.address.model.applicant.filter.StatusFilter;
+import seedu.address.model.position.Position;
 import seedu.address.testutil.ApplicantBuilder;
+import seedu.address.testutil.PositionBuilder;
 
 public class UniqueApplicantListTest {
 
     private final UniqueApplicantList uniqueApplicantList = new UniqueApplicantList();
 
+    /**
+     * Verifies that the incrementally maintained status counts match a full recount of the list.
+     */
+    @AfterEach
+    public void verifyStatusCounts() {
+        assertEquals(new ApplicationStatusCounter(uniqueApplicantList), uniqueApplicantList.getStatusCounter());
+    }
+
     @Test
     public void contains_nullApplicant_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.contains(null));
@@ -45,6 +73,26 @@ public class UniqueApplicantListTest {
         assertTrue(uniqueApplicantList.contains(editedAlice));
     }
 
+    @Test
+    public void containsApplicantWithName_differentCase_returnsTrue() {
+        uniqueApplicantList.add(ALICE);
+        assertTrue(uniqueApplicantList.containsApplicantWithName(
+                new Name(ALICE.getName().fullName.toUpperCase())));
+    }
+
+    @Test
+    public void getApplicantWithName_applicantNotInList_throwsApplicantNotFoundException() {
+        assertThrows(ApplicantNotFoundException.class, () -> uniqueApplicantList.getApplicantWithName(ALICE.getName()));
+    }
+
+    @Test
+    public void getApplicantWithName_applicantEdited_returnsEditedApplicant() {
+        uniqueApplicantList.add(ALICE);
+        Applicant editedAlice = new ApplicantBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueApplicantList.setApplicant(ALICE, editedAlice);
+        assertEquals(editedAlice, uniqueApplicantList.getApplicantWithName(ALICE.getName()));
+    }
+
     @Test
     public void add_nullApplicant_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.add(null));
@@ -124,6 +172,269 @@ public class UniqueApplicantListTest {
         assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
     }
 
+    @Test
+    public void remove_existingApplicant_applicantNameNoLongerFound() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.remove(ALICE);
+        assertFalse(uniqueApplicantList.containsApplicantWithName(ALICE.getName()));
+        uniqueApplicantList.add(ALICE);
+        assertTrue(uniqueApplicantList.contains(ALICE));
+    }
+
+    @Test
+    public void setApplicant_editedApplicantHasDifferentIdentity_oldNameNoLongerFound() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.setApplicant(ALICE, BOB);
+        assertFalse(uniqueApplicantList.containsApplicantWithName(ALICE.getName()));
+        assertTrue(uniqueApplicantList.containsApplicantWithName(BOB.getName()));
+    }
+
+    @Test
+    public void removeIf_matchingApplicants_applicantNamesNoLongerFound() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.removeIf(applicant -> applicant.isSameApplicant(ALICE));
+        assertFalse(uniqueApplicantList.containsApplicantWithName(ALICE.getName()));
+        assertTrue(uniqueApplicantList.containsApplicantWithName(BOB.getName()));
+    }
+
+    @Test
+    public void getApplicantsWithNameContainingAnyOf_keywordsInDifferentCase_returnsMatchingApplicants() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BOB, CARL));
+        List<String> keywords = Arrays.asList("pAULINE", "kurz", "Nobody");
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, CARL)),
+                new HashSet<>(uniqueApplicantList.getApplicantsWithNameContainingAnyOf(keywords)));
+        assertTrue(predicate.test(ALICE) && predicate.test(CARL) && !predicate.test(BOB));
+    }
+
+    @Test
+    public void getApplicantsWithNameContainingAnyOf_applicantRenamed_oldNameWordsNoLongerFound() {
+        uniqueApplicantList.add(ALICE);
+        Applicant renamedAlice = new ApplicantBuilder(ALICE).withName("Alice Tan").build();
+        uniqueApplicantList.setApplicant(ALICE, renamedAlice);
+
+        assertTrue(uniqueApplicantList.getApplicantsWithNameContainingAnyOf(Arrays.asList("Pauline")).isEmpty());
+        assertEquals(Collections.singleton(renamedAlice),
+                new HashSet<>(uniqueApplicantList.getApplicantsWithNameContainingAnyOf(Arrays.asList("alice"))));
+    }
+
+    @Test
+    public void getApplicantsWithNameSimilarTo_misspeltKeywords_returnsApplicantsWithFewestTypos() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BOB, CARL));
+        // "alise" is one typo away from "Alice", and "kurtz" is one typo away from "Kurz"
+        Map<Applicant, Integer> matchingApplicants =
+                uniqueApplicantList.getApplicantsWithNameSimilarTo(Arrays.asList("ALISE", "kurtz"));
+
+        assertEquals(2, matchingApplicants.size());
+        assertEquals(1, (int) matchingApplicants.get(ALICE));
+        assertEquals(1, (int) matchingApplicants.get(CARL));
+        assertTrue(uniqueApplicantList.getApplicantsWithNameSimilarTo(Arrays.asList("zzzz")).isEmpty());
+    }
+
+    @Test
+    public void getApplicantsWithNameSimilarTo_applicantRemoved_noLongerFound() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.remove(ALICE);
+        assertTrue(uniqueApplicantList.getApplicantsWithNameSimilarTo(Arrays.asList("alise")).isEmpty());
+    }
+
+    @Test
+    public void hasApplicantsApplyingTo_applicantsRemoved_returnsFalse() {
+        uniqueApplicantList.add(ALICE);
+        assertTrue(uniqueApplicantList.hasApplicantsApplyingTo(DATASCIENTIST));
+        assertFalse(uniqueApplicantList.hasApplicantsApplyingTo(SOFTWAREARCHITECT));
+        uniqueApplicantList.remove(ALICE);
+        assertFalse(uniqueApplicantList.hasApplicantsApplyingTo(DATASCIENTIST));
+    }
+
+    @Test
+    public void getRowsApplyingTo_applicantsOfSeveralPositions_returnsRowsInAscendingOrder() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.add(CARL);
+        assertArrayEquals(new int[] {0, 2}, uniqueApplicantList.getRowsApplyingTo(DATASCIENTIST));
+        assertArrayEquals(new int[0], uniqueApplicantList.getRowsApplyingTo(DATAENGINEER));
+    }
+
+    @Test
+    public void remove_applicantBeforeOthers_othersStillFoundInIndexes() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BOB, CARL));
+        uniqueApplicantList.remove(ALICE);
+
+        assertArrayEquals(new int[] {1}, uniqueApplicantList.getRowsApplyingTo(DATASCIENTIST));
+        assertEquals(Collections.singleton(CARL),
+                uniqueApplicantList.getApplicantsWithNameContainingAnyOf(Arrays.asList("kurz")));
+        assertSame(BOB, uniqueApplicantList.getApplicantWithName(BOB.getName()));
+    }
+
+    @Test
+    public void add_atIndexBeforeOthers_othersStillFoundInIndexes() {
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.add(0, ALICE);
+
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniqueApplicantList.asUnmodifiableObservableList());
+        assertArrayEquals(new int[] {0, 2}, uniqueApplicantList.getRowsApplyingTo(DATASCIENTIST));
+        assertEquals(Collections.singleton(CARL),
+                uniqueApplicantList.getApplicantsWithNameContainingAnyOf(Arrays.asList("kurz")));
+        assertEquals(2, uniqueApplicantList.indexOf(CARL));
+    }
+
+    @Test
+    public void removeApplicantsApplyingTo_position_removesOnlyApplicantsUnderPosition() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.removeApplicantsApplyingTo(DATASCIENTIST);
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(BOB);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+        assertFalse(uniqueApplicantList.containsApplicantWithName(ALICE.getName()));
+        assertFalse(uniqueApplicantList.hasApplicantsApplyingTo(DATASCIENTIST));
+    }
+
+    @Test
+    public void addAll_atIndexesAroundOthers_applicantsInsertedAndIndexed() {
+        uniqueApplicantList.add(BOB);
+        List<ListChangeListener.Change<? extends Applicant>> changes = new ArrayList<>();
+        uniqueApplicantList.asUnmodifiableObservableList().addListener(changes::add);
+
+        uniqueApplicantList.addAll(new int[] {0, 2}, Arrays.asList(ALICE, CARL));
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniqueApplicantList.asUnmodifiableObservableList());
+        assertArrayEquals(new int[] {0, 2}, uniqueApplicantList.getRowsApplyingTo(DATASCIENTIST));
+        assertSame(BOB, uniqueApplicantList.getApplicantWithName(BOB.getName()));
+    }
+
+    @Test
+    public void addAll_applicantAlreadyInList_throwsDuplicateApplicantException() {
+        uniqueApplicantList.add(ALICE);
+        assertThrows(DuplicateApplicantException.class, () ->
+                uniqueApplicantList.addAll(new int[] {0, 1}, Arrays.asList(BOB, ALICE)));
+        assertEquals(Collections.singletonList(ALICE), uniqueApplicantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeApplicantsApplyingTo_multipleApplicantsRemoved_listenersNotifiedOnce() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BOB, CARL));
+        List<Applicant> removedApplicants = new ArrayList<>();
+        List<ListChangeListener.Change<? extends Applicant>> changes = new ArrayList<>();
+        uniqueApplicantList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Applicant>) change -> {
+                    changes.add(change);
+                    while (change.next()) {
+                        removedApplicants.addAll(change.getRemoved());
+                    }
+                });
+
+        uniqueApplicantList.removeApplicantsApplyingTo(DATASCIENTIST);
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(ALICE, CARL), removedApplicants);
+        assertEquals(Collections.singletonList(BOB), uniqueApplicantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updateApplicantsWithPosition_editedPosition_updatesApplicantsInPlace() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.add(CARL);
+        Position editedPosition = new PositionBuilder(DATAENGINEER).withDescription("Maintain pipelines").build();
+        uniqueApplicantList.updateApplicantsWithPosition(DATASCIENTIST, editedPosition);
+
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(new ApplicantBuilder(ALICE).withPosition(editedPosition).build());
+        expectedUniqueApplicantList.add(BOB);
+        expectedUniqueApplicantList.add(new ApplicantBuilder(CARL).withPosition(editedPosition).build());
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+        assertFalse(uniqueApplicantList.hasApplicantsApplyingTo(DATASCIENTIST));
+        assertEquals(2, uniqueApplicantList.getApplicantsApplyingTo(editedPosition).size());
+    }
+
+    @Test
+    public void updateApplicantsWithPosition_multipleApplicantsUpdated_listenersNotifiedOnce() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(CARL);
+        List<ListChangeListener.Change<? extends Applicant>> changes = new ArrayList<>();
+        uniqueApplicantList.asUnmodifiableObservableList().addListener(changes::add);
+
+        Position editedPosition = new PositionBuilder(DATASCIENTIST).withDescription("Maintain pipelines").build();
+        uniqueApplicantList.updateApplicantsWithPosition(DATASCIENTIST, editedPosition);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void internPositions_equalPositionReplaced_applicantsReferToCanonicalPosition() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        Position canonicalPosition = new PositionBuilder(DATASCIENTIST).build();
+        uniqueApplicantList.internPositions(position -> position.equals(DATASCIENTIST) ? canonicalPosition : position);
+
+        Applicant internedApplicant = uniqueApplicantList.getApplicantWithName(ALICE.getName());
+        assertSame(canonicalPosition, internedApplicant.getApplication().getPosition());
+        assertSame(internedApplicant, uniqueApplicantList.asUnmodifiableObservableList().get(0));
+        assertEquals(Collections.singletonList(internedApplicant),
+                uniqueApplicantList.getApplicantsApplyingTo(DATASCIENTIST));
+        assertSame(BOB, uniqueApplicantList.getApplicantWithName(BOB.getName()));
+    }
+
+    @Test
+    public void internPositions_positionsAlreadyCanonical_listenersNotNotified() {
+        uniqueApplicantList.add(ALICE);
+        List<ListChangeListener.Change<? extends Applicant>> changes = new ArrayList<>();
+        uniqueApplicantList.asUnmodifiableObservableList().addListener(changes::add);
+
+        uniqueApplicantList.internPositions(position -> position);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void endBatch_multipleModifications_listenersNotifiedOnceAtEnd() {
+        uniqueApplicantList.add(ALICE);
+        List<ListChangeListener.Change<? extends Applicant>> changes = new ArrayList<>();
+        uniqueApplicantList.asUnmodifiableObservableList().addListener(changes::add);
+
+        uniqueApplicantList.beginBatch();
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.setApplicant(ALICE, ALICE.markAs(ApplicationStatus.ACCEPTED));
+        uniqueApplicantList.add(CARL);
+        assertTrue(changes.isEmpty());
+        assertTrue(uniqueApplicantList.containsApplicantWithName(CARL.getName()));
+
+        uniqueApplicantList.endBatch();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void getApplicantsMatching_rowsShiftedAndApplicantMarked_matchesCurrentList() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.remove(ALICE);
+        uniqueApplicantList.add(0, ALICE);
+        Applicant rejectedCarl = CARL.markAs(ApplicationStatus.REJECTED);
+        uniqueApplicantList.setApplicant(CARL, rejectedCarl);
+
+        FilterExpression dataScientist = new PositionFilter(DATASCIENTIST.getTitle());
+        assertEquals(Collections.singleton(ALICE), new HashSet<>(uniqueApplicantList.getApplicantsMatching(
+                new AndExpression(Arrays.asList(dataScientist, new StatusFilter(ApplicationStatus.PENDING))))));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BOB, rejectedCarl)),
+                new HashSet<>(uniqueApplicantList.getApplicantsMatching(
+                        new OrExpression(Arrays.asList(dataScientist, new NameFilter("bob"))))));
+    }
+
+    @Test
+    public void countApplicantsWithStatus_applicantMarked_countsUpdated() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.setApplicant(ALICE, ALICE.markAs(ApplicationStatus.REJECTED));
+        assertEquals(2, uniqueApplicantList.countApplicantsApplyingTo(DATASCIENTIST));
+        assertEquals(1, uniqueApplicantList.countApplicantsWithStatus(DATASCIENTIST, ApplicationStatus.REJECTED));
+        assertEquals(1, uniqueApplicantList.countApplicantsWithStatus(DATASCIENTIST, ApplicationStatus.PENDING));
+        assertEquals(0, uniqueApplicantList.countApplicantsApplyingTo(SOFTWAREARCHITECT));
+    }
+
     @Test
     public void setApplicants_nullUniqueApplicantList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.setApplicants((UniqueApplicantList) null));
@@ -151,6 +462,7 @@ public class UniqueApplicantListTest {
         UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
         expectedUniqueApplicantList.add(BOB);
         assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+        assertFalse(uniqueApplicantList.containsApplicantWithName(ALICE.getName()));
     }
 
     @Test
@@ -160,6 +472,16 @@ public class UniqueApplicantListTest {
                 .setApplicants(listWithDuplicateApplicants));
     }
 
+    @Test
+    public void setApplicants_listWithNamesDifferingInCase_throwsDuplicateApplicantException() {
+        Applicant upperCaseAlice = new ApplicantBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .withAddress(VALID_ADDRESS_BOB).build();
+        List<Applicant> listWithDuplicateApplicants = Arrays.asList(ALICE, BOB, upperCaseAlice);
+        assertThrows(DuplicateApplicantException.class, () -> uniqueApplicantList
+                .setApplicants(listWithDuplicateApplicants));
+        assertTrue(uniqueApplicantList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
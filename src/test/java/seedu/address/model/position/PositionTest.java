@@ -72,4 +72,12 @@ public class PositionTest {
         assertNotEquals(DATAENGINEER, editedDataEngineer);
     }
 
+    @Test
+    public void hashCode_equalPositions_sameHashCode() {
+        Position dataEngineerCopy = new Position(new Title(VALID_TITLE_DATAENGINEER.toUpperCase()),
+                new Description(DATAENGINEER.getDescription().description));
+        assertEquals(DATAENGINEER, dataEngineerCopy);
+        assertEquals(DATAENGINEER.hashCode(), dataEngineerCopy.hashCode());
+    }
+
 }
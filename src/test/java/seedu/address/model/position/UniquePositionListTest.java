@@ -0,0 +1,155 @@
+package seedu.address.model.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_DATAENGINEER;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPositions.DATAENGINEER;
+import static seedu.address.testutil.TypicalPositions.DATASCIENTIST;
+import static seedu.address.testutil.TypicalPositions.SOFTWAREARCHITECT;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.position.exceptions.DuplicatePositionException;
+import seedu.address.model.position.exceptions.PositionNotFoundException;
+import seedu.address.testutil.PositionBuilder;
+
+public class UniquePositionListTest {
+
+    private final UniquePositionList uniquePositionList = new UniquePositionList();
+
+    @Test
+    public void contains_nullPosition_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePositionList.contains(null));
+    }
+
+    @Test
+    public void contains_positionNotInList_returnsFalse() {
+        assertFalse(uniquePositionList.contains(DATAENGINEER));
+    }
+
+    @Test
+    public void contains_positionWithSameTitleInList_returnsTrue() {
+        uniquePositionList.add(DATAENGINEER);
+        Position editedDataEngineer = new PositionBuilder(DATAENGINEER)
+                .withDescription(VALID_DESCRIPTION_DATAENGINEER + " and more").build();
+        assertTrue(uniquePositionList.contains(editedDataEngineer));
+    }
+
+    @Test
+    public void containsPositionWithTitle_differentCase_returnsTrue() {
+        uniquePositionList.add(DATAENGINEER);
+        assertTrue(uniquePositionList.containsPositionWithTitle(
+                new Title(DATAENGINEER.getTitle().fullTitle.toUpperCase())));
+    }
+
+    @Test
+    public void add_duplicatePosition_throwsDuplicatePositionException() {
+        uniquePositionList.add(DATAENGINEER);
+        assertThrows(DuplicatePositionException.class, () -> uniquePositionList.add(DATAENGINEER));
+    }
+
+    @Test
+    public void getPositionWithTitle_positionNotInList_throwsPositionNotFoundException() {
+        assertThrows(PositionNotFoundException.class, () ->
+                uniquePositionList.getPositionWithTitle(DATAENGINEER.getTitle()));
+    }
+
+    @Test
+    public void getPositionWithTitle_positionEdited_returnsEditedPosition() {
+        uniquePositionList.add(DATAENGINEER);
+        Position editedDataEngineer = new PositionBuilder(DATAENGINEER)
+                .withDescription(VALID_DESCRIPTION_DATAENGINEER + " and more").build();
+        uniquePositionList.setPosition(DATAENGINEER, editedDataEngineer);
+        assertEquals(editedDataEngineer, uniquePositionList.getPositionWithTitle(DATAENGINEER.getTitle()));
+    }
+
+    @Test
+    public void setPosition_editedPositionHasDifferentTitle_oldTitleRemoved() {
+        uniquePositionList.add(DATAENGINEER);
+        uniquePositionList.setPosition(DATAENGINEER, DATASCIENTIST);
+        assertFalse(uniquePositionList.containsPositionWithTitle(DATAENGINEER.getTitle()));
+        assertEquals(DATASCIENTIST, uniquePositionList.getPositionWithTitle(DATASCIENTIST.getTitle()));
+    }
+
+    @Test
+    public void setPosition_editedPositionHasExistingTitle_throwsDuplicatePositionException() {
+        uniquePositionList.add(DATAENGINEER);
+        uniquePositionList.add(DATASCIENTIST);
+        assertThrows(DuplicatePositionException.class, () ->
+                uniquePositionList.setPosition(DATAENGINEER, DATASCIENTIST));
+    }
+
+    @Test
+    public void remove_existingPosition_titleRemoved() {
+        uniquePositionList.add(DATAENGINEER);
+        uniquePositionList.remove(DATAENGINEER);
+        assertFalse(uniquePositionList.containsPositionWithTitle(DATAENGINEER.getTitle()));
+    }
+
+    @Test
+    public void remove_positionDoesNotExist_throwsPositionNotFoundException() {
+        assertThrows(PositionNotFoundException.class, () -> uniquePositionList.remove(DATAENGINEER));
+    }
+
+    @Test
+    public void setPositions_list_replacesOwnListAndTitles() {
+        uniquePositionList.add(DATAENGINEER);
+        uniquePositionList.setPositions(Collections.singletonList(SOFTWAREARCHITECT));
+        assertFalse(uniquePositionList.containsPositionWithTitle(DATAENGINEER.getTitle()));
+        assertEquals(SOFTWAREARCHITECT, uniquePositionList.getPositionWithTitle(SOFTWAREARCHITECT.getTitle()));
+    }
+
+    @Test
+    public void setPositions_listWithDuplicatePositions_throwsDuplicatePositionException() {
+        List<Position> listWithDuplicatePositions = Arrays.asList(DATAENGINEER, DATAENGINEER);
+        assertThrows(DuplicatePositionException.class, () ->
+                uniquePositionList.setPositions(listWithDuplicatePositions));
+    }
+
+    @Test
+    public void setPositions_uniquePositionList_replacesOwnListAndTitles() {
+        uniquePositionList.add(DATAENGINEER);
+        UniquePositionList replacement = new UniquePositionList();
+        replacement.add(DATASCIENTIST);
+        uniquePositionList.setPositions(replacement);
+        assertFalse(uniquePositionList.containsPositionWithTitle(DATAENGINEER.getTitle()));
+        assertEquals(DATASCIENTIST, uniquePositionList.getPositionWithTitle(DATASCIENTIST.getTitle()));
+    }
+
+    @Test
+    public void search_keywordInTitleAndDescription_ranksByRelevance() {
+        uniquePositionList.add(SOFTWAREARCHITECT);
+        uniquePositionList.add(DATASCIENTIST);
+        uniquePositionList.add(DATAENGINEER);
+        // "data" is in both titles, and also in the description of the data engineer
+        assertEquals(Arrays.asList(DATAENGINEER, DATASCIENTIST), uniquePositionList.search(List.of("DATA"), 10));
+        assertEquals(Collections.singletonList(DATAENGINEER), uniquePositionList.search(List.of("data"), 1));
+        assertEquals(Collections.emptyList(), uniquePositionList.search(List.of("nothing"), 10));
+    }
+
+    @Test
+    public void search_positionEditedOrRemoved_indexUpdated() {
+        uniquePositionList.add(DATASCIENTIST);
+        uniquePositionList.add(DATAENGINEER);
+        Position editedDataScientist = new PositionBuilder(DATASCIENTIST).withDescription("Build dashboards").build();
+        uniquePositionList.setPosition(DATASCIENTIST, editedDataScientist);
+        assertEquals(Collections.emptyList(), uniquePositionList.search(List.of("learning"), 10));
+        assertEquals(Collections.singletonList(editedDataScientist),
+                uniquePositionList.search(List.of("dashboards"), 10));
+
+        uniquePositionList.remove(DATAENGINEER);
+        assertEquals(Collections.emptyList(), uniquePositionList.search(List.of("pipeline"), 10));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniquePositionList.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    public void add_valuesInAnyOrder_sortedAndDistinct() {
+        CompressedBitmap bitmap = bitmapOf(70000, 3, 1, 3, 65536, 2);
+        assertArrayEquals(new int[] {1, 2, 3, 65536, 70000}, bitmap.toArray());
+        assertEquals(5, bitmap.getCardinality());
+        assertTrue(bitmap.contains(65536));
+        assertFalse(bitmap.contains(65535));
+        assertFalse(bitmap.contains(-1));
+    }
+
+    @Test
+    public void add_denseValues_allContained() {
+        // more values than a sorted array chunk holds, so the chunk becomes a bitmap
+        int[] values = IntStream.range(0, 10000).map(i -> 3 * i).toArray();
+        CompressedBitmap bitmap = bitmapOf(values);
+        assertArrayEquals(values, bitmap.toArray());
+        assertTrue(bitmap.contains(29997));
+        assertFalse(bitmap.contains(29998));
+    }
+
+    @Test
+    public void and_sparseAndDenseChunks_sameAsIntersection() {
+        int[] multiplesOfTwo = IntStream.range(0, 150000).filter(i -> i % 2 == 0).toArray();
+        int[] multiplesOfThree = IntStream.range(0, 150000).filter(i -> i % 3 == 0).toArray();
+        int[] multiplesOfSixThousand = IntStream.range(0, 150000).filter(i -> i % 6000 == 0).toArray();
+        int[] multiplesOfSix = IntStream.range(0, 150000).filter(i -> i % 6 == 0).toArray();
+
+        // bitmap chunks with bitmap chunks
+        assertArrayEquals(multiplesOfSix, bitmapOf(multiplesOfTwo).and(bitmapOf(multiplesOfThree)).toArray());
+        // array chunks with bitmap chunks, in either order
+        assertArrayEquals(multiplesOfSixThousand,
+                bitmapOf(multiplesOfSixThousand).and(bitmapOf(multiplesOfTwo)).toArray());
+        assertArrayEquals(multiplesOfSixThousand,
+                bitmapOf(multiplesOfTwo).and(bitmapOf(multiplesOfSixThousand)).toArray());
+        // array chunks with array chunks, and chunks present in only one bitmap
+        assertEquals(bitmapOf(1, 65537), bitmapOf(1, 2, 65537, 140000).and(bitmapOf(1, 3, 65537, 70000)));
+        assertEquals(0, bitmapOf(1).and(new CompressedBitmap()).getCardinality());
+    }
+
+    @Test
+    public void or_sparseAndDenseChunks_sameAsUnion() {
+        int[] multiplesOfTwo = IntStream.range(0, 150000).filter(i -> i % 2 == 0).toArray();
+        int[] multiplesOfThree = IntStream.range(0, 150000).filter(i -> i % 3 == 0).toArray();
+        int[] multiplesOfTwoOrThree = IntStream.range(0, 150000).filter(i -> i % 2 == 0 || i % 3 == 0).toArray();
+        int[] multiplesOfSixThousand = IntStream.range(0, 150000).filter(i -> i % 6000 == 0).toArray();
+
+        // bitmap chunks with bitmap chunks
+        assertArrayEquals(multiplesOfTwoOrThree, bitmapOf(multiplesOfTwo).or(bitmapOf(multiplesOfThree)).toArray());
+        // array chunks with bitmap chunks, in either order
+        assertArrayEquals(multiplesOfTwo, bitmapOf(multiplesOfSixThousand).or(bitmapOf(multiplesOfTwo)).toArray());
+        assertArrayEquals(multiplesOfTwo, bitmapOf(multiplesOfTwo).or(bitmapOf(multiplesOfSixThousand)).toArray());
+        // array chunks with array chunks, and chunks present in only one bitmap
+        assertEquals(bitmapOf(1, 2, 3, 65537, 70000, 140000),
+                bitmapOf(1, 2, 65537, 140000).or(bitmapOf(1, 3, 65537, 70000)));
+        // array chunks whose union needs a bitmap chunk
+        int[] evenValues = IntStream.range(0, 3000).map(i -> 2 * i).toArray();
+        int[] oddValues = IntStream.range(0, 3000).map(i -> 2 * i + 1).toArray();
+        assertArrayEquals(IntStream.range(0, 6000).toArray(), bitmapOf(evenValues).or(bitmapOf(oddValues)).toArray());
+    }
+
+    @Test
+    public void or_resultModified_operandsUnchanged() {
+        CompressedBitmap first = bitmapOf(1, 2);
+        CompressedBitmap union = first.or(new CompressedBitmap());
+        union.add(3);
+        assertEquals(bitmapOf(1, 2), first);
+    }
+
+    @Test
+    public void remove_sparseAndDenseChunks_valuesRemoved() {
+        CompressedBitmap bitmap = bitmapOf(IntStream.range(0, 10000).toArray());
+        bitmap.add(70000);
+        for (int i = 0; i < 10000; i += 2) {
+            bitmap.remove(i);
+        }
+        bitmap.remove(70000);
+        bitmap.remove(70001);
+        bitmap.remove(-1);
+        assertArrayEquals(IntStream.range(0, 5000).map(i -> 2 * i + 1).toArray(), bitmap.toArray());
+
+        // a chunk emptied is dropped
+        bitmap = bitmapOf(5, 65536);
+        bitmap.remove(5);
+        bitmap.remove(65536);
+        assertTrue(bitmap.isEmpty());
+        assertEquals(new CompressedBitmap(), bitmap);
+    }
+
+    private static CompressedBitmap bitmapOf(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+}
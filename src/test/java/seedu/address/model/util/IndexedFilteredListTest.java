@@ -0,0 +1,89 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class IndexedFilteredListTest {
+
+    private static final Predicate<String> STARTS_WITH_A = element -> element.startsWith("a");
+
+    private final BatchableObservableList<String> source = new BatchableObservableList<>();
+    private IndexedFilteredList<String> filteredList;
+
+    @BeforeEach
+    public void setUp() {
+        source.addAll(Arrays.asList("apple", "banana", "avocado", "cherry"));
+        filteredList = new IndexedFilteredList<>(source);
+    }
+
+    @Test
+    public void constructor_showsAllElements() {
+        assertEquals(source, filteredList);
+    }
+
+    @Test
+    public void setPredicate_matchingIndexes_showsElementsWithoutTestingThem() {
+        filteredList.setPredicate(element -> {
+            throw new AssertionError("The elements should not be tested.");
+        }, new int[] {1, 3});
+        assertEquals(Arrays.asList("banana", "cherry"), filteredList);
+    }
+
+    @Test
+    public void setPredicate_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> filteredList.setPredicate(STARTS_WITH_A, new int[] {4}));
+    }
+
+    @Test
+    public void setPredicate_predicateOnly_testsEveryElement() {
+        filteredList.setPredicate(STARTS_WITH_A);
+        assertEquals(Arrays.asList("apple", "avocado"), filteredList);
+    }
+
+    @Test
+    public void sourceChanged_elementsAddedAndRemoved_onlyChangedElementsTested() {
+        List<String> testedElements = new ArrayList<>();
+        filteredList.setPredicate(element -> testedElements.add(element) && STARTS_WITH_A.test(element),
+                new int[] {0, 2});
+
+        source.add(0, "apricot");
+        source.add("blueberry");
+        source.remove("apple");
+        assertEquals(Arrays.asList("apricot", "avocado"), filteredList);
+        assertEquals(Arrays.asList("apricot", "blueberry"), testedElements);
+    }
+
+    @Test
+    public void sourceChanged_elementReplaced_keptOnlyIfMatching() {
+        filteredList.setPredicate(STARTS_WITH_A, new int[] {0, 2});
+        source.set(0, "almond");
+        source.set(2, "date");
+        source.set(3, "acorn");
+        assertEquals(Arrays.asList("almond", "acorn"), filteredList);
+    }
+
+    @Test
+    public void sourceChanged_batchOfChanges_listenersNotifiedOnce() {
+        filteredList.setPredicate(STARTS_WITH_A, new int[] {0, 2});
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        filteredList.addListener(changes::add);
+
+        source.removeAll(new int[] {0, 1, 2});
+        assertEquals(Collections.emptyList(), filteredList);
+        assertEquals(1, changes.size());
+
+        source.insertAll(new int[] {0, 2}, Arrays.asList("apple", "avocado"));
+        assertEquals(Arrays.asList("apple", "avocado"), filteredList);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelScannerTest {
+
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = value -> value % 3 == 0;
+
+    private final ParallelScanner scanner = new ParallelScanner(new ForkJoinPool(4));
+
+    @Test
+    public void filter_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> scanner.filter(null, IS_MULTIPLE_OF_THREE));
+        assertThrows(NullPointerException.class, () -> scanner.filter(Arrays.asList(1, 2), null));
+    }
+
+    @Test
+    public void filter_shortList_matchingElementsInOrder() {
+        assertEquals(Arrays.asList(9, 3, 0), scanner.filter(Arrays.asList(9, 4, 3, 1, 0), IS_MULTIPLE_OF_THREE));
+    }
+
+    @Test
+    public void filter_listSplitAcrossThreads_matchingElementsInOrder() {
+        List<Integer> elements = IntStream.range(0, 10 * ParallelScanner.SEQUENTIAL_THRESHOLD + 7).boxed()
+                .collect(Collectors.toList());
+        List<Integer> expectedElements = elements.stream().filter(IS_MULTIPLE_OF_THREE).collect(Collectors.toList());
+        assertEquals(expectedElements, scanner.filter(elements, IS_MULTIPLE_OF_THREE));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryResultCacheTest {
+
+    private final QueryResultCache<String, String> cache = new QueryResultCache<>(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryResultCache<String, String>(0));
+    }
+
+    @Test
+    public void get_sameVersion_hit() {
+        cache.put("query", 1, "result");
+        assertEquals(Optional.of("result"), cache.get("query", 1));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void get_otherVersion_missAndStaleResultRemoved() {
+        cache.put("query", 1, "result");
+        assertEquals(Optional.empty(), cache.get("query", 2));
+        assertEquals(Optional.empty(), cache.get("other query", 1));
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        cache.put("first", 1, "first result");
+        cache.put("second", 1, "second result");
+        cache.get("first", 1);
+        cache.put("third", 1, "third result");
+
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(Optional.empty(), cache.get("second", 1));
+        assertEquals(Optional.of("first result"), cache.get("first", 1));
+        assertEquals(Optional.of("third result"), cache.get("third", 1));
+    }
+}
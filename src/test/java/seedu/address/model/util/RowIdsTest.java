@@ -0,0 +1,64 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class RowIdsTest {
+
+    private final RowIds rowIds = new RowIds();
+
+    @Test
+    public void insert_beforeOtherRows_otherRowsKeepTheirIds() {
+        int firstId = rowIds.insert(0);
+        int secondId = rowIds.insert(1);
+        int insertedId = rowIds.insert(0);
+
+        assertEquals(3, rowIds.size());
+        assertEquals(insertedId, rowIds.getId(0));
+        assertEquals(1, rowIds.getRow(firstId));
+        assertEquals(2, rowIds.getRow(secondId));
+    }
+
+    @Test
+    public void remove_beforeOtherRows_otherRowsKeepTheirIdsAndIdReused() {
+        rowIds.reset(3);
+        assertEquals(0, rowIds.remove(0));
+
+        assertEquals(0, rowIds.getRow(1));
+        assertEquals(1, rowIds.getRow(2));
+        assertEquals(0, rowIds.insert(2));
+    }
+
+    @Test
+    public void removeAll_severalRows_remainingRowsMovedUp() {
+        rowIds.reset(6);
+        rowIds.removeAll(new int[] {1, 2, 4});
+
+        assertEquals(3, rowIds.size());
+        assertEquals(0, rowIds.getRow(0));
+        assertEquals(1, rowIds.getRow(3));
+        assertEquals(2, rowIds.getRow(5));
+    }
+
+    @Test
+    public void insertAll_severalRows_rowsEndUpAtGivenRows() {
+        rowIds.reset(3);
+        int[] insertedIds = rowIds.insertAll(new int[] {0, 2, 5});
+
+        assertEquals(6, rowIds.size());
+        assertArrayEquals(new int[] {insertedIds[0], 0, insertedIds[1], 1, 2, insertedIds[2]},
+                new int[] {rowIds.getId(0), rowIds.getId(1), rowIds.getId(2), rowIds.getId(3), rowIds.getId(4),
+                    rowIds.getId(5)});
+        assertEquals(4, rowIds.getRow(2));
+    }
+
+    @Test
+    public void getId_rowOutOfRange_throwsIndexOutOfBoundsException() {
+        rowIds.reset(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> rowIds.getId(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> rowIds.insert(3));
+    }
+}
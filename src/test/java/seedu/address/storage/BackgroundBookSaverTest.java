@@ -0,0 +1,210 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPositions.DATAENGINEER;
+import static seedu.address.testutil.TypicalPositions.DATASCIENTIST;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ApplicantBook;
+import seedu.address.model.PositionBook;
+import seedu.address.model.ReadOnlyPositionBook;
+import seedu.address.storage.applicant.JsonApplicantBookStorage;
+import seedu.address.storage.position.JsonPositionBookStorage;
+
+public class BackgroundBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void checkpoint_burstDuringWrite_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteAllowed = new CountDownLatch(1);
+        PositionBookStorageStub positionBookStorage = new PositionBookStorageStub(testFolder.resolve("pb"), () -> {
+            firstWriteStarted.countDown();
+            firstWriteAllowed.await();
+        });
+        BackgroundBookSaver bookSaver = new BackgroundBookSaver(getStorage(positionBookStorage));
+
+        PositionBook first = new PositionBook();
+        bookSaver.checkpoint(first, new ApplicantBook());
+        firstWriteStarted.await();
+        bookSaver.checkpoint(new PositionBook(), new ApplicantBook());
+        PositionBook last = new PositionBook();
+        bookSaver.checkpoint(last, new ApplicantBook());
+        firstWriteAllowed.countDown();
+        bookSaver.flush();
+
+        assertEquals(2, positionBookStorage.writtenBooks.size());
+        assertSame(first, positionBookStorage.writtenBooks.get(0));
+        assertSame(last, positionBookStorage.writtenBooks.get(1));
+    }
+
+    @Test
+    public void checkpoint_appendQueuedBehindCheckpoint_replayGivesLatestBooks() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteAllowed = new CountDownLatch(1);
+        PositionBookStorageStub positionBookStorage = new PositionBookStorageStub(testFolder.resolve("pb"), () -> {
+            if (firstWriteStarted.getCount() > 0) {
+                firstWriteStarted.countDown();
+                firstWriteAllowed.await();
+            }
+        });
+        StorageManager storage = getStorage(positionBookStorage);
+        BackgroundBookSaver bookSaver = new BackgroundBookSaver(storage);
+
+        bookSaver.checkpoint(new PositionBook(), new ApplicantBook());
+        firstWriteStarted.await();
+        PositionBook withDataEngineer = new PositionBook();
+        withDataEngineer.addPosition(DATAENGINEER);
+        bookSaver.checkpoint(withDataEngineer, new ApplicantBook());
+        // a position added, then deleted by a command which checkpoints
+        bookSaver.appendToJournal(List.of(JsonAdaptedJournalRecord.putPosition(1, DATASCIENTIST.getTitle(),
+                DATASCIENTIST)));
+        bookSaver.checkpoint(new PositionBook(withDataEngineer), new ApplicantBook());
+        firstWriteAllowed.countDown();
+        bookSaver.flush();
+
+        PositionBook positionBook = new PositionBook(storage.readPositionBook().get());
+        new BookJournal(storage.getJournalFilePath()).replay(positionBook, new ApplicantBook());
+        assertEquals(withDataEngineer, positionBook);
+    }
+
+    @Test
+    public void flush_writeFailed_throwsUntilCheckpointSucceeds() throws Exception {
+        IOException failure = new IOException("dummy exception");
+        PositionBookStorageStub positionBookStorage = new PositionBookStorageStub(testFolder.resolve("pb"), () -> {
+            throw failure;
+        });
+        BackgroundBookSaver bookSaver = new BackgroundBookSaver(getStorage(positionBookStorage));
+        List<IOException> reportedFailures = new CopyOnWriteArrayList<>();
+        bookSaver.setFailureHandler(reportedFailures::add);
+
+        bookSaver.checkpoint(new PositionBook(), new ApplicantBook());
+        assertThrows(IOException.class, failure.getMessage(), bookSaver::flush);
+        assertEquals(List.of(failure), reportedFailures);
+        assertTrue(bookSaver.isCheckpointRequired());
+
+        // an append succeeding does not hide the failed checkpoint
+        positionBookStorage.beforeWrite = () -> {};
+        bookSaver.appendToJournal(List.of(JsonAdaptedJournalRecord.deletePosition(DATAENGINEER.getTitle())));
+        assertThrows(IOException.class, failure.getMessage(), bookSaver::flush);
+
+        // the failed books are not written again, but a checkpoint of the current books is required
+        PositionBook positionBook = new PositionBook();
+        bookSaver.checkpoint(positionBook, new ApplicantBook());
+        bookSaver.flush();
+        assertFalse(bookSaver.isCheckpointRequired());
+        assertEquals(List.of(positionBook), positionBookStorage.writtenBooks);
+    }
+
+    @Test
+    public void checkpoint_afterAppend_journalCleared() throws Exception {
+        StorageManager storage = getStorage(new JsonPositionBookStorage(testFolder.resolve("pb")));
+        BackgroundBookSaver bookSaver = new BackgroundBookSaver(storage);
+        BookJournal journal = new BookJournal(storage.getJournalFilePath());
+
+        bookSaver.appendToJournal(List.of(JsonAdaptedJournalRecord.putPosition(0, DATAENGINEER.getTitle(),
+                DATAENGINEER)));
+        bookSaver.flush();
+        assertTrue(journal.hasRecords());
+
+        PositionBook positionBook = new PositionBook();
+        positionBook.addPosition(DATAENGINEER);
+        bookSaver.checkpoint(positionBook, new ApplicantBook());
+        bookSaver.flush();
+        assertFalse(journal.hasRecords());
+        assertEquals(positionBook, storage.readPositionBook().get());
+    }
+
+    @Test
+    public void appendToJournal_appendFailed_checkpointRequired() throws Exception {
+        StorageManager storage = getStorage(new JsonPositionBookStorage(testFolder.resolve("pb")));
+        BackgroundBookSaver bookSaver = new BackgroundBookSaver(storage);
+        // a directory in place of the journal fails every append
+        Files.createDirectories(storage.getJournalFilePath());
+
+        bookSaver.appendToJournal(List.of(JsonAdaptedJournalRecord.deletePosition(DATAENGINEER.getTitle())));
+        assertThrows(IOException.class, bookSaver::flush);
+        assertTrue(bookSaver.isCheckpointRequired());
+
+        Files.delete(storage.getJournalFilePath());
+        bookSaver.checkpoint(new PositionBook(), new ApplicantBook());
+        assertFalse(bookSaver.isCheckpointRequired());
+        bookSaver.flush();
+    }
+
+    @Test
+    public void completeInterruptedCheckpoint_recordsSetAside_writtenBooksMovedIn() throws Exception {
+        StorageManager storage = getStorage(new JsonPositionBookStorage(testFolder.resolve("pb")));
+        BookJournal journal = new BookJournal(storage.getJournalFilePath());
+        PositionBook positionBook = new PositionBook();
+        positionBook.addPosition(DATAENGINEER);
+        storage.savePositionBook(positionBook, testFolder.resolve("pb.tmp"));
+        journal.append(List.of(JsonAdaptedJournalRecord.deletePosition(DATAENGINEER.getTitle())));
+        journal.beginCheckpoint();
+
+        BackgroundBookSaver.completeInterruptedCheckpoint(storage);
+        assertFalse(journal.isCheckpointInterrupted());
+        assertEquals(positionBook, storage.readPositionBook().get());
+    }
+
+    @Test
+    public void completeInterruptedCheckpoint_recordsNotSetAside_writtenBooksDiscarded() throws Exception {
+        StorageManager storage = getStorage(new JsonPositionBookStorage(testFolder.resolve("pb")));
+        storage.savePositionBook(new PositionBook(), testFolder.resolve("pb.tmp"));
+
+        BackgroundBookSaver.completeInterruptedCheckpoint(storage);
+        assertFalse(Files.exists(testFolder.resolve("pb.tmp")));
+        assertFalse(storage.readPositionBook().isPresent());
+    }
+
+    private StorageManager getStorage(JsonPositionBookStorage positionBookStorage) {
+        return new StorageManager(new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonApplicantBookStorage(testFolder.resolve("ab")), positionBookStorage);
+    }
+
+    /**
+     * Runs before each position book is written, and may block or fail the write.
+     */
+    private interface WriteHook {
+        void run() throws IOException, InterruptedException;
+    }
+
+    /**
+     * A stub recording the position books written, in order, after running a hook.
+     */
+    private static class PositionBookStorageStub extends JsonPositionBookStorage {
+        private final List<ReadOnlyPositionBook> writtenBooks = new CopyOnWriteArrayList<>();
+        private volatile WriteHook beforeWrite;
+
+        PositionBookStorageStub(Path filePath, WriteHook beforeWrite) {
+            super(filePath);
+            this.beforeWrite = beforeWrite;
+        }
+
+        @Override
+        public void savePositionBook(ReadOnlyPositionBook positionBook, Path filePath) throws IOException {
+            try {
+                beforeWrite.run();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            writtenBooks.add(positionBook);
+            super.savePositionBook(positionBook, filePath);
+        }
+    }
+}
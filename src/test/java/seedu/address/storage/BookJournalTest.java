@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalApplicants.ALICE;
+import static seedu.address.testutil.TypicalApplicants.BOB;
+import static seedu.address.testutil.TypicalApplicants.CARL;
+import static seedu.address.testutil.TypicalApplicants.DANIEL;
+import static seedu.address.testutil.TypicalApplicants.GEORGE;
+import static seedu.address.testutil.TypicalPositions.DATAENGINEER;
+import static seedu.address.testutil.TypicalPositions.DATASCIENTIST;
+import static seedu.address.testutil.TypicalPositions.SOFTWAREARCHITECT;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ApplicantBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PositionBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.position.Position;
+import seedu.address.testutil.PositionBuilder;
+
+public class BookJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private PositionBook initialPositionBook;
+    private ApplicantBook initialApplicantBook;
+    private BookJournal journal;
+
+    @BeforeEach
+    public void setUp() {
+        initialPositionBook = new PositionBook();
+        initialPositionBook.addPosition(DATAENGINEER);
+        initialPositionBook.addPosition(DATASCIENTIST);
+        initialApplicantBook = new ApplicantBook();
+        initialApplicantBook.addApplicant(ALICE);
+        initialApplicantBook.addApplicant(CARL);
+        initialApplicantBook.addApplicant(DANIEL);
+        initialApplicantBook.addApplicant(GEORGE);
+        journal = new BookJournal(testFolder.resolve("journal"));
+    }
+
+    @Test
+    public void replay_missingFile_booksUnchanged() throws Exception {
+        PositionBook positionBook = new PositionBook(initialPositionBook);
+        ApplicantBook applicantBook = new ApplicantBook(initialApplicantBook);
+        journal.replay(positionBook, applicantBook);
+        assertEquals(initialPositionBook, positionBook);
+        assertEquals(initialApplicantBook, applicantBook);
+        assertFalse(journal.hasRecords());
+    }
+
+    @Test
+    public void replay_recordedChanges_booksChanged() throws Exception {
+        ModelManager model = getChangedModel();
+
+        PositionBook positionBook = new PositionBook(initialPositionBook);
+        ApplicantBook applicantBook = new ApplicantBook(initialApplicantBook);
+        journal.replay(positionBook, applicantBook);
+        assertEquals(model.getPositionBook(), positionBook);
+        assertEquals(model.getApplicantBook(), applicantBook);
+    }
+
+    @Test
+    public void replay_overChangedBooks_booksUnchanged() throws Exception {
+        ModelManager model = getChangedModel();
+
+        // the books were written by a checkpoint which did not get to clear the journal
+        PositionBook positionBook = new PositionBook(model.getPositionBook());
+        ApplicantBook applicantBook = new ApplicantBook(model.getApplicantBook());
+        journal.replay(positionBook, applicantBook);
+        assertEquals(model.getPositionBook(), positionBook);
+        assertEquals(model.getApplicantBook(), applicantBook);
+    }
+
+    @Test
+    public void replay_tornTail_tailDiscarded() throws Exception {
+        journal.append(List.of(JsonAdaptedJournalRecord.putPosition(2, SOFTWAREARCHITECT.getTitle(),
+                SOFTWAREARCHITECT)));
+        long size = Files.size(journal.getFilePath());
+        journal.append(List.of(JsonAdaptedJournalRecord.deletePosition(DATAENGINEER.getTitle())));
+        // drops the end of the last record, as a crash while appending would
+        byte[] bytes = Files.readAllBytes(journal.getFilePath());
+        Files.write(journal.getFilePath(), Arrays.copyOf(bytes, bytes.length - 3));
+
+        PositionBook positionBook = new PositionBook(initialPositionBook);
+        journal.replay(positionBook, new ApplicantBook(initialApplicantBook));
+        PositionBook expectedPositionBook = new PositionBook(initialPositionBook);
+        expectedPositionBook.addPosition(SOFTWAREARCHITECT);
+        assertEquals(expectedPositionBook, positionBook);
+        assertEquals(size, Files.size(journal.getFilePath()));
+    }
+
+    @Test
+    public void replay_corruptedRecord_recordAndTailDiscarded() throws Exception {
+        journal.append(List.of(JsonAdaptedJournalRecord.deletePosition(DATAENGINEER.getTitle()),
+                JsonAdaptedJournalRecord.deletePosition(DATASCIENTIST.getTitle())));
+        byte[] bytes = Files.readAllBytes(journal.getFilePath());
+        bytes[BookJournal.HEADER_LENGTH + 1] ^= 1;
+        Files.write(journal.getFilePath(), bytes);
+
+        PositionBook positionBook = new PositionBook(initialPositionBook);
+        journal.replay(positionBook, new ApplicantBook(initialApplicantBook));
+        assertEquals(initialPositionBook, positionBook);
+        assertFalse(journal.hasRecords());
+    }
+
+    @Test
+    public void replay_invalidRecord_throwsDataConversionException() throws Exception {
+        journal.append(List.of(new JsonAdaptedJournalRecord(JsonAdaptedJournalRecord.Operation.DELETE_POSITION, 0,
+                "*invalid*", null, null)));
+        assertThrows(DataConversionException.class, () -> journal.replay(new PositionBook(initialPositionBook),
+                new ApplicantBook(initialApplicantBook)));
+    }
+
+    @Test
+    public void beginCheckpoint_withRecords_recordsSetAsideUntilCheckpointEnds() throws Exception {
+        journal.append(List.of(JsonAdaptedJournalRecord.deletePosition(DATAENGINEER.getTitle())));
+        assertTrue(journal.hasRecords());
+        journal.beginCheckpoint();
+        assertFalse(journal.hasRecords());
+        assertTrue(journal.isCheckpointInterrupted());
+        journal.endCheckpoint();
+        assertFalse(journal.isCheckpointInterrupted());
+    }
+
+    @Test
+    public void beginCheckpoint_noJournal_checkpointMarked() throws Exception {
+        journal.beginCheckpoint();
+        assertTrue(journal.isCheckpointInterrupted());
+        journal.endCheckpoint();
+        assertFalse(journal.isCheckpointInterrupted());
+    }
+
+    /**
+     * Returns a model holding the initial books after a series of changes, which are appended to the journal.
+     */
+    private ModelManager getChangedModel() throws Exception {
+        ModelManager model = new ModelManager(initialApplicantBook, initialPositionBook, new UserPrefs());
+        JournalRecorder recorder = new JournalRecorder(model.getPositionBook(), model.getApplicantBook());
+
+        model.addPosition(SOFTWAREARCHITECT);
+        model.addApplicant(BOB);
+        model.deletePosition(DATAENGINEER);
+        Position renamedPosition = new PositionBuilder(DATASCIENTIST).withTitle("Data Analyst").build();
+        model.setPosition(DATASCIENTIST, renamedPosition);
+        model.updateApplicantsWithPosition(DATASCIENTIST, renamedPosition);
+        model.deleteApplicant(model.getApplicantWithName(CARL.getName()));
+
+        journal.append(recorder.takeRecords().get());
+        return model;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ConversionPipelineTest {
+    private static final int ELEMENT_COUNT = 10 * ConversionPipeline.BATCH_SIZE + 7;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void finish_manyBatches_convertedInOrder() throws Exception {
+        List<String> convertedElements = new ArrayList<>();
+        try (ConversionPipeline<Integer, String> pipeline = new ConversionPipeline<>(pool, String::valueOf,
+                convertedElements::add)) {
+            for (int i = 0; i < ELEMENT_COUNT; i++) {
+                pipeline.accept(i);
+            }
+            pipeline.finish();
+        }
+
+        assertEquals(ELEMENT_COUNT, convertedElements.size());
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            assertEquals(String.valueOf(i), convertedElements.get(i));
+        }
+    }
+
+    @Test
+    public void finish_singleThread_convertedInOrder() throws Exception {
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        List<String> convertedElements = new ArrayList<>();
+        try (ConversionPipeline<Integer, String> pipeline = new ConversionPipeline<>(singleThreadPool,
+                String::valueOf, convertedElements::add)) {
+            for (int i = 0; i < 3; i++) {
+                pipeline.accept(i);
+            }
+            pipeline.finish();
+        } finally {
+            singleThreadPool.shutdown();
+        }
+
+        assertEquals(List.of("0", "1", "2"), convertedElements);
+    }
+
+    @Test
+    public void finish_invalidElement_throwsIllegalValueException() {
+        int invalidElement = ELEMENT_COUNT / 2;
+        ConversionPipeline<Integer, String> pipeline = new ConversionPipeline<>(pool, element -> {
+            if (element == invalidElement) {
+                throw new IllegalValueException("invalid " + element);
+            }
+            return String.valueOf(element);
+        }, unused -> {});
+
+        assertThrows(IllegalValueException.class, "invalid " + invalidElement, () -> {
+            for (int i = 0; i < ELEMENT_COUNT; i++) {
+                pipeline.accept(i);
+            }
+            pipeline.finish();
+        });
+        pipeline.close();
+    }
+}
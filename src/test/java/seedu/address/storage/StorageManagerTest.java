@@ -1,7 +1,11 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalApplicants.getTypicalApplicantBook;
+import static seedu.address.testutil.TypicalPositions.SOFTWAREARCHITECT;
+import static seedu.address.testutil.TypicalPositions.getTypicalPositionBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +13,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.ApplicantBook;
+import seedu.address.model.PositionBook;
+import seedu.address.model.ReadOnlyPositionBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.storage.applicant.JsonApplicantBookStorage;
 import seedu.address.storage.position.JsonPositionBookStorage;
@@ -48,4 +55,33 @@ public class StorageManagerTest {
         UserPrefs retrieved = storageManager.readUserPrefs().get();
         assertEquals(original, retrieved);
     }
+
+    @Test
+    public void bookReadSave() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link JsonPositionBookStorage} and {@link JsonApplicantBookStorage} classes.
+         */
+        PositionBook positionBook = getTypicalPositionBook();
+        positionBook.addPosition(SOFTWAREARCHITECT);
+        ApplicantBook applicantBook = getTypicalApplicantBook();
+        storageManager.savePositionBook(positionBook);
+        storageManager.saveApplicantBook(applicantBook);
+        ReadOnlyPositionBook retrievedPositionBook = storageManager.readPositionBook().get();
+        assertEquals(positionBook, new PositionBook(retrievedPositionBook));
+        assertEquals(applicantBook, new ApplicantBook(storageManager.readApplicantBook(retrievedPositionBook).get()));
+    }
+
+    @Test
+    public void saveApplicantBook_notPrettyPrinted_savedOnOneLine() throws Exception {
+        Path filePath = getTempFilePath("compact");
+        JsonApplicantBookStorage applicantBookStorage = new JsonApplicantBookStorage(filePath, false);
+        applicantBookStorage.saveApplicantBook(getTypicalApplicantBook());
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        PositionBook positionBook = getTypicalPositionBook();
+        positionBook.addPosition(SOFTWAREARCHITECT);
+        assertEquals(getTypicalApplicantBook(),
+                new ApplicantBook(applicantBookStorage.readApplicantBook(positionBook).get()));
+    }
 }